@@ -0,0 +1,70 @@
+package com.github.linfro.benchmarks;
+
+import com.github.linfro.core.HasValue;
+import com.github.linfro.core.Values;
+import com.github.linfro.core.value.DefaultGetAggregateValue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of change of single argument of aggregate value with many arguments, read by single sink.
+ * Incremental aggregator updates the result, plain aggregator iterates over all arguments.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AggregateBenchmark {
+    @Param({"incremental", "plain"})
+    public String aggregator;
+
+    @Param({"10", "1000", "100000"})
+    public int argumentCount;
+
+    private HasValue<Integer>[] arguments;
+    private int next = 0;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup(final Blackhole blackhole) {
+        DefaultGetAggregateValue<Integer> value;
+        switch (aggregator) {
+            case "incremental":
+                value = Values.sumIntValue();
+                break;
+            case "plain":
+                value = Values.newAggregateValue(args -> {
+                    int sum = 0;
+                    for (Integer arg : args) {
+                        sum += arg;
+                    }
+                    return sum;
+                });
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown aggregator: " + aggregator);
+        }
+
+        arguments = new HasValue[argumentCount];
+        for (int i = 0; i < argumentCount; i++) {
+            arguments[i] = value.newArgument();
+            arguments[i].setValue(i);
+        }
+
+        value.addChangeListener(getter -> blackhole.consume(getter.getValue()));
+    }
+
+    @Benchmark
+    public void setArgument() {
+        int i = next++;
+        arguments[i % argumentCount].setValue(i);
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.linfro.benchmarks;
+
+/**
+ * Bean used by reflection benchmarks: public fields, getters/setters of object and primitive properties and nested
+ * bean for composite properties.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class BenchmarkBean {
+    public Object data;
+    public int count;
+
+    private String name;
+    private int size;
+    private BenchmarkBean child;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public BenchmarkBean getChild() {
+        return child;
+    }
+
+    public void setChild(BenchmarkBean child) {
+        this.child = child;
+    }
+
+    /**
+     * @return chain of nested beans, depth 1 means bean without child
+     */
+    public static BenchmarkBean chain(int depth) {
+        BenchmarkBean bean = new BenchmarkBean();
+        BenchmarkBean cur = bean;
+        for (int i = 1; i < depth; i++) {
+            cur.setChild(new BenchmarkBean());
+            cur = cur.getChild();
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.linfro.benchmarks;
+
+/**
+ * Runs JMH with GC profiler, so every benchmark reports allocation per operation.
+ * All JMH command line options are supported. If profilers are given by {@code -prof} option, GC profiler is not
+ * added, so pass {@code -prof gc} explicitly to combine it with others.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public final class BenchmarkMain {
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        for (String arg : args) {
+            if ("-prof".equals(arg)) {
+                org.openjdk.jmh.Main.main(args);
+                return;
+            }
+        }
+
+        String[] jmhArgs = new String[args.length + 2];
+        jmhArgs[0] = "-prof";
+        jmhArgs[1] = "gc";
+        System.arraycopy(args, 0, jmhArgs, 2, args.length);
+        org.openjdk.jmh.Main.main(jmhArgs);
+    }
+}
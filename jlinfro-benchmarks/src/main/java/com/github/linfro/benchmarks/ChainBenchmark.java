@@ -0,0 +1,72 @@
+package com.github.linfro.benchmarks;
+
+import com.github.linfro.core.GetValue;
+import com.github.linfro.core.Values;
+import com.github.linfro.core.value.DefaultHasValue;
+import com.github.linfro.core.value.GetFilteredValue;
+import com.github.linfro.core.value.GetTransformedValue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of change propagated through chain of derived values, read by single sink at the end of the chain.
+ * <p>
+ * Chain of map/filter operators built by DSL is fused into single value, so its cost hardly depends on depth.
+ * Parameter {@code fused = false} builds the chain by constructors, one value per operator, to measure the cost
+ * of depth itself. Strong values are never fused.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChainBenchmark {
+    @Param({"map", "filter", "strong"})
+    public String operator;
+
+    @Param({"1", "4", "16", "64"})
+    public int depth;
+
+    @Param({"true", "false"})
+    public boolean fused;
+
+    private DefaultHasValue<Integer> source;
+    private int next = 0;
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        source = Values.newHasValue(0);
+
+        GetValue<Integer> value = source;
+        for (int i = 0; i < depth; i++) {
+            switch (operator) {
+                case "map":
+                    value = fused ? value.map(x -> x + 1) : new GetTransformedValue<>(value, x -> x + 1);
+                    break;
+                case "filter":
+                    value = fused ? value.filter(x -> x >= 0) : new GetFilteredValue<>(value, x -> x >= 0);
+                    break;
+                case "strong":
+                    value = value.strong();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown operator: " + operator);
+            }
+        }
+
+        value.addChangeListener(getter -> blackhole.consume(getter.getValue()));
+    }
+
+    @Benchmark
+    public void setValue() {
+        // Every value differs from the previous one, so strong values do not stop propagation
+        source.setValue(next++ & 0xFFFF);
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.linfro.benchmarks;
+
+import com.github.linfro.core.reflection.CompositePropertyInvoker;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of read and write of composite property ("child.child.name") depending on its depth.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CompositePropertyBenchmark {
+    @Param({"direct", "reflective", "dynamic", "lambda"})
+    public String factory;
+
+    @Param({"1", "2", "3", "4", "5"})
+    public int depth;
+
+    private BenchmarkBean bean;
+    private CompositePropertyInvoker invoker;
+    private String name;
+
+    @Setup
+    public void setup() {
+        StringBuilder property = new StringBuilder();
+        for (int i = 1; i < depth; i++) {
+            property.append("child.");
+        }
+        property.append("name");
+
+        bean = BenchmarkBean.chain(depth);
+        invoker = new CompositePropertyInvoker(BenchmarkBean.class, property.toString(),
+                InvokerFactories.create(factory));
+        name = "name";
+    }
+
+    @Benchmark
+    public Object get() {
+        return invoker.getPropertyValue(bean);
+    }
+
+    @Benchmark
+    public void set() {
+        invoker.setPropertyValue(bean, name);
+    }
+}
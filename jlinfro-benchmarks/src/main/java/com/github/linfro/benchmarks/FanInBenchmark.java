@@ -0,0 +1,87 @@
+package com.github.linfro.benchmarks;
+
+import com.github.linfro.core.GetValue;
+import com.github.linfro.core.Values;
+import com.github.linfro.core.dsl.GetValueHolder;
+import com.github.linfro.core.value.DefaultHasValue;
+import com.github.linfro.core.value.GetMergeValue;
+import com.github.linfro.core.value.GetUnionValue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of change of single argument of value with many arguments, read by single sink.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FanInBenchmark {
+    @Param({"union", "merge", "join"})
+    public String operator;
+
+    @Param({"2", "16", "128"})
+    public int argumentCount;
+
+    private DefaultHasValue<Integer>[] arguments;
+    private int next = 0;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup(final Blackhole blackhole) {
+        arguments = new DefaultHasValue[argumentCount];
+        for (int i = 0; i < argumentCount; i++) {
+            arguments[i] = Values.newHasValue(i);
+        }
+
+        GetValue<?> value;
+        switch (operator) {
+            case "union":
+                value = new GetUnionValue<>(arguments[0], tail(arguments));
+                break;
+            case "merge":
+                value = new GetMergeValue(arguments[0], arguments[1], tail(tail(arguments)));
+                break;
+            case "join":
+                // Balanced binary join tree over all arguments, depth is log2(argumentCount)
+                value = joinTree(0, argumentCount);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown operator: " + operator);
+        }
+
+        value.addChangeListener(getter -> blackhole.consume(getter.getValue()));
+    }
+
+    private GetValue<Integer> joinTree(int from, int to) {
+        if (to - from == 1) {
+            return arguments[from];
+        }
+
+        int middle = (from + to) >>> 1;
+        return joinTree(from, middle).join(joinTree(middle, to), (x, y) -> x + y);
+    }
+
+    private static <H extends GetValueHolder<?>> H[] tail(H[] args) {
+        return Arrays.copyOfRange(args, 1, args.length);
+    }
+
+    @Benchmark
+    public void setFirst() {
+        arguments[0].setValue(next++);
+    }
+
+    @Benchmark
+    public void setLast() {
+        arguments[argumentCount - 1].setValue(next++);
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.linfro.benchmarks;
+
+import com.github.linfro.core.reflection.Invoker;
+import com.github.linfro.core.reflection.InvokerFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of single invocation through invoker created by the given factory.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InvokerBenchmark {
+    @Param({"direct", "reflective", "dynamic", "lambda"})
+    public String factory;
+
+    private BenchmarkBean bean;
+    private Object data;
+    private String name;
+    private Integer size;
+
+    private Invoker fieldGetter;
+    private Invoker fieldSetter;
+    private Invoker primitiveFieldSetter;
+    private Invoker methodGetter;
+    private Invoker methodSetter;
+    private Invoker primitiveMethodSetter;
+
+    @Setup
+    public void setup() throws Exception {
+        InvokerFactory invokerFactory = InvokerFactories.create(factory);
+
+        bean = new BenchmarkBean();
+        data = new Object();
+        name = "name";
+        size = 1000;
+
+        fieldGetter = invokerFactory.createGetterInvoker(BenchmarkBean.class.getField("data"));
+        fieldSetter = invokerFactory.createSetterInvoker(BenchmarkBean.class.getField("data"));
+        primitiveFieldSetter = invokerFactory.createSetterInvoker(BenchmarkBean.class.getField("count"));
+        methodGetter = invokerFactory.createMethodInvoker(BenchmarkBean.class.getMethod("getName"));
+        methodSetter = invokerFactory.createMethodInvoker(BenchmarkBean.class.getMethod("setName", String.class));
+        primitiveMethodSetter = invokerFactory.createMethodInvoker(BenchmarkBean.class.getMethod("setSize", int.class));
+    }
+
+    @Benchmark
+    public Object fieldGet() {
+        return fieldGetter.invoke(bean);
+    }
+
+    @Benchmark
+    public Object fieldSet() {
+        return fieldSetter.invoke(bean, data);
+    }
+
+    @Benchmark
+    public Object fieldSetPrimitiveNull() {
+        return primitiveFieldSetter.invoke(bean, (Object) null);
+    }
+
+    @Benchmark
+    public Object methodGet() {
+        return methodGetter.invoke(bean);
+    }
+
+    @Benchmark
+    public Object methodSet() {
+        return methodSetter.invoke(bean, name);
+    }
+
+    @Benchmark
+    public Object methodSetPrimitive() {
+        return primitiveMethodSetter.invoke(bean, size);
+    }
+
+    @Benchmark
+    public Object methodSetPrimitiveNull() {
+        return primitiveMethodSetter.invoke(bean, (Object) null);
+    }
+
+    @Benchmark
+    public Object fieldGet0() {
+        return fieldGetter.invoke0(bean);
+    }
+
+    @Benchmark
+    public Object fieldSet1() {
+        return fieldSetter.invoke1(bean, data);
+    }
+
+    @Benchmark
+    public Object methodGet0() {
+        return methodGetter.invoke0(bean);
+    }
+
+    @Benchmark
+    public Object methodSet1() {
+        return methodSetter.invoke1(bean, name);
+    }
+
+    @Benchmark
+    public Object methodSetPrimitiveNull1() {
+        return primitiveMethodSetter.invoke1(bean, null);
+    }
+}
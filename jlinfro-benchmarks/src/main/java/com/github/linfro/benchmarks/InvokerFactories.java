@@ -0,0 +1,99 @@
+package com.github.linfro.benchmarks;
+
+import com.github.linfro.core.reflection.DynamicInvokerFactory;
+import com.github.linfro.core.reflection.Invoker;
+import com.github.linfro.core.reflection.InvokerFactory;
+import com.github.linfro.core.reflection.LambdaInvokerFactory;
+import com.github.linfro.core.reflection.ReflectiveInvokerFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Invoker factories compared by reflection benchmarks.
+ * Factory "direct" is the baseline: its invokers call {@link BenchmarkBean} members directly.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+final class InvokerFactories {
+    private InvokerFactories() {
+    }
+
+    static InvokerFactory create(String name) {
+        switch (name) {
+            case "direct":
+                return new DirectInvokerFactory();
+            case "reflective":
+                return new ReflectiveInvokerFactory();
+            case "dynamic":
+                return new DynamicInvokerFactory();
+            case "lambda":
+                return new LambdaInvokerFactory();
+            default:
+                throw new IllegalArgumentException("Unknown invoker factory: " + name);
+        }
+    }
+
+    private static final class DirectInvokerFactory implements InvokerFactory {
+        @Override
+        public Invoker createMethodInvoker(Method method) {
+            switch (method.getName()) {
+                case "getName":
+                    return (bean, args) -> ((BenchmarkBean) bean).getName();
+                case "setName":
+                    return (bean, args) -> {
+                        ((BenchmarkBean) bean).setName((String) args[0]);
+                        return null;
+                    };
+                case "getSize":
+                    return (bean, args) -> ((BenchmarkBean) bean).getSize();
+                case "setSize":
+                    return (bean, args) -> {
+                        ((BenchmarkBean) bean).setSize(args[0] == null ? 0 : (Integer) args[0]);
+                        return null;
+                    };
+                case "getChild":
+                    return (bean, args) -> ((BenchmarkBean) bean).getChild();
+                case "setChild":
+                    return (bean, args) -> {
+                        ((BenchmarkBean) bean).setChild((BenchmarkBean) args[0]);
+                        return null;
+                    };
+                default:
+                    throw new IllegalArgumentException("Unknown method: " + method);
+            }
+        }
+
+        @Override
+        public Invoker createGetterInvoker(Field field) {
+            switch (field.getName()) {
+                case "data":
+                    return (bean, args) -> ((BenchmarkBean) bean).data;
+                case "count":
+                    return (bean, args) -> ((BenchmarkBean) bean).count;
+                default:
+                    throw new IllegalArgumentException("Unknown field: " + field);
+            }
+        }
+
+        @Override
+        public Invoker createSetterInvoker(Field field) {
+            switch (field.getName()) {
+                case "data":
+                    return (bean, args) -> {
+                        ((BenchmarkBean) bean).data = args[0];
+                        return null;
+                    };
+                case "count":
+                    return (bean, args) -> {
+                        ((BenchmarkBean) bean).count = args[0] == null ? 0 : (Integer) args[0];
+                        return null;
+                    };
+                default:
+                    throw new IllegalArgumentException("Unknown field: " + field);
+            }
+        }
+    }
+}
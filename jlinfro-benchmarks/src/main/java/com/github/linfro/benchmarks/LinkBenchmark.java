@@ -0,0 +1,52 @@
+package com.github.linfro.benchmarks;
+
+import com.github.linfro.core.Values;
+import com.github.linfro.core.value.DefaultHasValue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of change delivered through link: simple link copies value in one direction, sync link in both.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LinkBenchmark {
+    private DefaultHasValue<Integer> simpleFrom;
+    private DefaultHasValue<Integer> simpleTo;
+    private DefaultHasValue<Integer> syncFrom;
+    private DefaultHasValue<Integer> syncTo;
+    private int next = 0;
+
+    @Setup
+    public void setup() {
+        simpleFrom = Values.newHasValue(0);
+        simpleTo = Values.newHasValue(0);
+        simpleFrom.flow().to(simpleTo);
+
+        syncFrom = Values.newHasValue(0);
+        syncTo = Values.newHasValue(0);
+        syncFrom.flow().sync().to(syncTo);
+    }
+
+    @Benchmark
+    public Integer simpleLink() {
+        simpleFrom.setValue(next++);
+        return simpleTo.getValue();
+    }
+
+    @Benchmark
+    public Integer syncLinkRoundTrip() {
+        syncFrom.setValue(next++);
+        syncTo.setValue(next++);
+        return syncFrom.getValue();
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.linfro.benchmarks;
+
+import com.github.linfro.core.Getter;
+import com.github.linfro.core.ValueChangeListener;
+import com.github.linfro.core.Values;
+import com.github.linfro.core.value.DefaultHasValue;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of single fire event depending on listeners count.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListenerDispatchBenchmark {
+    @Param({"0", "1", "2", "10", "1000"})
+    public int listenerCount;
+
+    private DefaultHasValue<Integer> value;
+    private Integer next = 0;
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        value = Values.newHasValue(0);
+        for (int i = 0; i < listenerCount; i++) {
+            value.addChangeListener(new ValueChangeListener<Integer>() {
+                @Override
+                public void valueChanged(Getter<? extends Integer> getter) {
+                    blackhole.consume(getter);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public void fireValueChanged() {
+        value.fireValueChanged();
+    }
+
+    @Benchmark
+    public void setValue() {
+        value.setValue(next);
+    }
+}
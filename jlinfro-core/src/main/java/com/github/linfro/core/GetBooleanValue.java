@@ -0,0 +1,29 @@
+package com.github.linfro.core;
+
+import com.github.linfro.core.value.GetBooleanNotValue;
+import com.github.linfro.core.value.GetBooleanStrongValue;
+
+/**
+ * Value of primitive boolean type. Use {@link #getBoolean()} to read value without boxing,
+ * {@link #getValue()} is boxed view of the value for generic DSL.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public interface GetBooleanValue extends GetValue<Boolean> {
+    public boolean getBoolean();
+
+    @Override
+    public default Boolean getValue() {
+        return getBoolean();
+    }
+
+    public default GetBooleanValue not() {
+        return new GetBooleanNotValue(this);
+    }
+
+    public default GetBooleanValue strongBoolean() {
+        return new GetBooleanStrongValue(this);
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.linfro.core;
+
+import com.github.linfro.core.value.GetDoubleFilteredValue;
+import com.github.linfro.core.value.GetDoubleStrongValue;
+import com.github.linfro.core.value.GetDoubleTransformedValue;
+
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+import static com.github.linfro.core.common.ObjectUtil.DEFAULT_DOUBLE_TOLERANCE;
+
+/**
+ * Value of primitive double type. Use {@link #getDouble()} to read value without boxing,
+ * {@link #getValue()} is boxed view of the value for generic DSL.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public interface GetDoubleValue extends GetValue<Double> {
+    public double getDouble();
+
+    @Override
+    public default Double getValue() {
+        return getDouble();
+    }
+
+    public default GetDoubleValue mapDouble(DoubleUnaryOperator function) {
+        return new GetDoubleTransformedValue(this, function);
+    }
+
+    public default GetDoubleValue filterDouble(DoublePredicate predicate) {
+        return new GetDoubleFilteredValue(this, predicate);
+    }
+
+    public default GetDoubleValue strongDouble() {
+        return strongDouble(DEFAULT_DOUBLE_TOLERANCE);
+    }
+
+    /**
+     * Fires change only if new value differs from old one by tolerance or more. NaN values are equal to each other.
+     */
+    public default GetDoubleValue strongDouble(double tolerance) {
+        return new GetDoubleStrongValue(this, tolerance);
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.linfro.core;
+
+import com.github.linfro.core.value.GetIntFilteredValue;
+import com.github.linfro.core.value.GetIntStrongValue;
+import com.github.linfro.core.value.GetIntTransformedValue;
+
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Value of primitive int type. Use {@link #getInt()} to read value without boxing,
+ * {@link #getValue()} is boxed view of the value for generic DSL.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public interface GetIntValue extends GetValue<Integer> {
+    public int getInt();
+
+    @Override
+    public default Integer getValue() {
+        return getInt();
+    }
+
+    public default GetIntValue mapInt(IntUnaryOperator function) {
+        return new GetIntTransformedValue(this, function);
+    }
+
+    public default GetIntValue filterInt(IntPredicate predicate) {
+        return new GetIntFilteredValue(this, predicate);
+    }
+
+    public default GetIntValue strongInt() {
+        return new GetIntStrongValue(this);
+    }
+}
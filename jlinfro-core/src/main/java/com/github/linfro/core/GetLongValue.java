@@ -0,0 +1,37 @@
+package com.github.linfro.core;
+
+import com.github.linfro.core.value.GetLongFilteredValue;
+import com.github.linfro.core.value.GetLongStrongValue;
+import com.github.linfro.core.value.GetLongTransformedValue;
+
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Value of primitive long type. Use {@link #getLong()} to read value without boxing,
+ * {@link #getValue()} is boxed view of the value for generic DSL.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public interface GetLongValue extends GetValue<Long> {
+    public long getLong();
+
+    @Override
+    public default Long getValue() {
+        return getLong();
+    }
+
+    public default GetLongValue mapLong(LongUnaryOperator function) {
+        return new GetLongTransformedValue(this, function);
+    }
+
+    public default GetLongValue filterLong(LongPredicate predicate) {
+        return new GetLongFilteredValue(this, predicate);
+    }
+
+    public default GetLongValue strongLong() {
+        return new GetLongStrongValue(this);
+    }
+}
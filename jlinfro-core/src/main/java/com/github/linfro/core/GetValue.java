@@ -1,10 +1,11 @@
 package com.github.linfro.core;
 
 import com.github.linfro.core.dsl.GetValueDSL;
+import com.github.linfro.core.value.ValueUtil;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-04
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public interface GetValue<T> extends Getter<T>, GetValueDSL<T> {
@@ -15,6 +16,18 @@ public interface GetValue<T> extends Getter<T>, GetValueDSL<T> {
 
     public void removeChangeListener(ValueChangeListener<? super T> listener);
 
+    /**
+     * Adds listener which receives previous value together with the current one.
+     * Previous value is captured when listener is added.
+     */
+    public default void addDeltaListener(ValueDeltaListener<? super T> listener) {
+        addChangeListener(ValueUtil.newDeltaListener(this, listener));
+    }
+
+    public default void removeDeltaListener(ValueDeltaListener<? super T> listener) {
+        removeChangeListener(ValueUtil.deltaListenerKey(this, listener));
+    }
+
     @Override
     public default GetValue<T> getContentValue() {
         return this;
@@ -0,0 +1,30 @@
+package com.github.linfro.core;
+
+/**
+ * Change of value delivered to {@link ValueDeltaListener}: previous and current values together with their validity.
+ * Event object is reused by the value for every notification, so it must not be kept after listener returns.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public interface ValueChangeEvent<T> {
+    /**
+     * @return changed value, e.g. to read its meta info
+     */
+    public Getter<? extends T> getGetter();
+
+    /**
+     * @return value before the change, null if it was not valid
+     */
+    public T getOldValue();
+
+    public boolean isOldValueValid();
+
+    /**
+     * @return value after the change, null if it is not valid
+     */
+    public T getNewValue();
+
+    public boolean isNewValueValid();
+}
@@ -0,0 +1,14 @@
+package com.github.linfro.core;
+
+/**
+ * Listener which receives previous value together with the current one (see {@link ValueChangeEvent}).
+ * Previous value is kept by the value once for all its delta listeners.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ValueDeltaListener<T> {
+    public void valueChanged(ValueChangeEvent<? extends T> event);
+}
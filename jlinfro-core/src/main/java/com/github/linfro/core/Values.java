@@ -1,15 +1,16 @@
 package com.github.linfro.core;
 
 import com.github.linfro.core.common.Aggregator;
-import com.github.linfro.core.value.DefaultGetAggregateValue;
-import com.github.linfro.core.value.DefaultHasValue;
-import com.github.linfro.core.value.ValueUtil;
+import com.github.linfro.core.common.AssociativeAggregator;
+import com.github.linfro.core.value.*;
+
+import java.util.function.Supplier;
 
 import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-02-23
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public final class Values {
@@ -24,6 +25,46 @@ public final class Values {
         return new DefaultHasValue<>(value);
     }
 
+    public static <A> ConcurrentHasValue<A> newConcurrentHasValue() {
+        return new ConcurrentHasValue<>();
+    }
+
+    public static <A> ConcurrentHasValue<A> newConcurrentHasValue(A value) {
+        return new ConcurrentHasValue<>(value);
+    }
+
+    public static IntHasValue newIntHasValue() {
+        return new IntHasValue();
+    }
+
+    public static IntHasValue newIntHasValue(int value) {
+        return new IntHasValue(value);
+    }
+
+    public static LongHasValue newLongHasValue() {
+        return new LongHasValue();
+    }
+
+    public static LongHasValue newLongHasValue(long value) {
+        return new LongHasValue(value);
+    }
+
+    public static DoubleHasValue newDoubleHasValue() {
+        return new DoubleHasValue();
+    }
+
+    public static DoubleHasValue newDoubleHasValue(double value) {
+        return new DoubleHasValue(value);
+    }
+
+    public static BooleanHasValue newBooleanHasValue() {
+        return new BooleanHasValue();
+    }
+
+    public static BooleanHasValue newBooleanHasValue(boolean value) {
+        return new BooleanHasValue(value);
+    }
+
     public static <A> DefaultGetAggregateValue<A> newAggregateValue(Aggregator<A> aggregator) {
         notNull(aggregator);
         return new DefaultGetAggregateValue<>(aggregator);
@@ -36,4 +77,74 @@ public final class Values {
     public static DefaultGetAggregateValue<Boolean> orValue() {
         return newAggregateValue(ValueUtil.AGGREGATOR_OR);
     }
+
+    /**
+     * Creates AND value which fires change only when result flips and disposes arguments in O(1).
+     */
+    public static GetAndValue newAndValue() {
+        return new GetAndValue();
+    }
+
+    /**
+     * Creates OR value which fires change only when result flips and disposes arguments in O(1).
+     */
+    public static GetOrValue newOrValue() {
+        return new GetOrValue();
+    }
+
+    public static DefaultGetAggregateValue<Integer> sumIntValue() {
+        return newAggregateValue(ValueUtil.AGGREGATOR_SUM_INT);
+    }
+
+    public static DefaultGetAggregateValue<Long> sumLongValue() {
+        return newAggregateValue(ValueUtil.AGGREGATOR_SUM_LONG);
+    }
+
+    public static DefaultGetAggregateValue<Double> sumDoubleValue() {
+        return newAggregateValue(ValueUtil.AGGREGATOR_SUM_DOUBLE);
+    }
+
+    public static DefaultGetAggregateValue<Integer> countValue() {
+        return newAggregateValue(ValueUtil.AGGREGATOR_COUNT);
+    }
+
+    /**
+     * Creates average of double arguments, see {@link ValueUtil#AGGREGATOR_AVERAGE_DOUBLE} for integral arguments.
+     */
+    public static DefaultGetAggregateValue<Double> averageDoubleValue() {
+        return newAggregateValue(ValueUtil.AGGREGATOR_AVERAGE_DOUBLE);
+    }
+
+    public static <A> SegmentTreeAggregateValue<A> newSegmentTreeAggregateValue(AssociativeAggregator<A> aggregator) {
+        notNull(aggregator);
+        return new SegmentTreeAggregateValue<>(aggregator);
+    }
+
+    public static <A extends Comparable<? super A>> SegmentTreeAggregateValue<A> minValue() {
+        return newSegmentTreeAggregateValue(ValueUtil.<A>minAggregator());
+    }
+
+    public static <A extends Comparable<? super A>> SegmentTreeAggregateValue<A> maxValue() {
+        return newSegmentTreeAggregateValue(ValueUtil.<A>maxAggregator());
+    }
+
+    public static <A> SegmentTreeAggregateValue<A> firstValidValue() {
+        return newSegmentTreeAggregateValue(ValueUtil.<A>firstValidAggregator());
+    }
+
+    /**
+     * Creates value calculated by supplier, which listens only to values read by the last evaluation.
+     */
+    public static <A> GetComputedValue<A> computed(Supplier<? extends A> supplier) {
+        notNull(supplier);
+        return new GetComputedValue<>(supplier);
+    }
+
+    public static void batch(Runnable action) {
+        ValueUtil.batch(action);
+    }
+
+    public static CompiledGraph compile(GetValue<?>... sources) {
+        return CompiledGraph.compile(sources);
+    }
 }
@@ -0,0 +1,30 @@
+package com.github.linfro.core.common;
+
+/**
+ * Aggregator defined by associative binary operation with identity element:
+ * {@code combine(a, combine(b, c)) == combine(combine(a, b), c)} and
+ * {@code combine(identity(), a) == combine(a, identity()) == a}.
+ * Operation need not be commutative or invertible, so aggregate value can maintain result in O(log n)
+ * per argument change (see {@link com.github.linfro.core.value.SegmentTreeAggregateValue}).
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public interface AssociativeAggregator<T> extends Aggregator<T> {
+    public T identity();
+
+    public T combine(T left, T right);
+
+    @Override
+    public default T aggregate(Iterable<T> args) {
+        T result = identity();
+        if (args != null) {
+            for (T arg : args) {
+                result = combine(result, arg);
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,13 @@
+package com.github.linfro.core.common;
+
+/**
+ * Function of 4 arguments.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Function4<T1, T2, T3, T4, R> {
+    public R apply(T1 arg1, T2 arg2, T3 arg3, T4 arg4);
+}
@@ -0,0 +1,39 @@
+package com.github.linfro.core.common;
+
+/**
+ * Aggregator which keeps its result up to date by argument deltas instead of iterating over all arguments.
+ * Aggregate value creates own {@link Accumulator} and notifies it about every added, removed or replaced argument,
+ * so the aggregation costs O(1) per argument change.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public interface IncrementalAggregator<T> extends Aggregator<T> {
+    public Accumulator<T> newAccumulator();
+
+    @Override
+    public default T aggregate(Iterable<T> args) {
+        Accumulator<T> accumulator = newAccumulator();
+        if (args != null) {
+            for (T arg : args) {
+                accumulator.add(arg);
+            }
+        }
+
+        return accumulator.getResult();
+    }
+
+    public interface Accumulator<T> {
+        public void add(T value);
+
+        public void remove(T value);
+
+        public default void replace(T oldValue, T newValue) {
+            remove(oldValue);
+            add(newValue);
+        }
+
+        public T getResult();
+    }
+}
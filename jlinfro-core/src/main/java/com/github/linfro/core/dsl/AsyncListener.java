@@ -0,0 +1,93 @@
+package com.github.linfro.core.dsl;
+
+import com.github.linfro.core.Getter;
+import com.github.linfro.core.ValueChangeListener;
+import com.github.linfro.core.common.Disposable;
+import com.github.linfro.core.value.ValueUtil;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * Listener which delivers values to the target on the executor.
+ * Value is read by the thread which fires change, so source value need not to be thread safe.
+ * Only the latest value is kept: if target falls behind, intermediate values are conflated.
+ * At most one delivery task is submitted to the executor at a time, and the target is never called concurrently.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class AsyncListener<A> implements ValueChangeListener<A>, Disposable {
+    private static final Object NO_VALUE = new Object();
+
+    protected final Consumer<? super A> target;
+    protected final Executor executor;
+
+    private final AtomicReference<Object> pending = new AtomicReference<>(NO_VALUE);
+    private final AtomicInteger missed = new AtomicInteger();
+    private final Runnable deliveryTask = this::deliver;
+    private volatile boolean disposed = false;
+
+    public AsyncListener(Consumer<? super A> target, Executor executor) {
+        this.target = notNull(target);
+        this.executor = notNull(executor);
+    }
+
+    @Override
+    public void valueChanged(Getter<? extends A> getter) {
+        if (disposed) {
+            return;
+        }
+
+        ValueUtil.pulled(getter);
+        if (!getter.isValueValid()) {
+            return;
+        }
+
+        pending.set(getter.getValue());
+        if (missed.getAndIncrement() != 0) {
+            // Delivery task is already submitted and will pick up the latest value
+            return;
+        }
+
+        try {
+            executor.execute(deliveryTask);
+        } catch (RuntimeException | Error e) {
+            missed.set(0);
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void deliver() {
+        int delivered = 1;
+        boolean completed = false;
+        try {
+            do {
+                Object value = pending.getAndSet(NO_VALUE);
+                if ((value != NO_VALUE) && !disposed) {
+                    target.accept((A) value);
+                }
+
+                delivered = missed.addAndGet(-delivered);
+            } while (delivered != 0);
+            completed = true;
+        } finally {
+            if (!completed) {
+                // Next change submits new delivery task
+                missed.set(0);
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        pending.set(NO_VALUE);
+    }
+}
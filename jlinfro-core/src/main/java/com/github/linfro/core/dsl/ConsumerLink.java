@@ -10,7 +10,7 @@ import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-02-06
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class ConsumerLink<A> implements Disposable {
@@ -25,12 +25,21 @@ public class ConsumerLink<A> implements Disposable {
         if (context.isSync()) {
             throw new IllegalArgumentException("Cannot create ConsumerLink for sync context");
         }
+        if (context.isWeak()) {
+            throw new IllegalArgumentException("Cannot create ConsumerLink for weak context");
+        }
 
         this.from = notNull(from);
         this.to = notNull(to);
         this.context = context;
 
-        this.fromListener = new ConsumerListener<>(this.to);
+        if (this.context.isAsync()) {
+            this.fromListener = new AsyncListener<>(this.to, this.context.getExecutor());
+        } else if (this.context.isLazy()) {
+            this.fromListener = new LazyListener<>(this.to, this.context.getExecutor());
+        } else {
+            this.fromListener = new ConsumerListener<>(this.to);
+        }
 
         if (this.context.isForce()) {
             this.fromListener.valueChanged(this.from);
@@ -44,6 +53,9 @@ public class ConsumerLink<A> implements Disposable {
         if (from != null) {
             if (fromListener != null) {
                 from.removeChangeListener(fromListener);
+                if (fromListener instanceof Disposable) {
+                    ((Disposable) fromListener).dispose();
+                }
             }
 
             if (from.canDispose()) {
@@ -2,6 +2,7 @@ package com.github.linfro.core.dsl;
 
 import com.github.linfro.core.Getter;
 import com.github.linfro.core.ValueChangeListener;
+import com.github.linfro.core.value.ValueUtil;
 
 import java.util.function.Consumer;
 
@@ -9,7 +10,7 @@ import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-02-08
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class ConsumerListener<A> implements ValueChangeListener<A> {
@@ -21,6 +22,7 @@ public class ConsumerListener<A> implements ValueChangeListener<A> {
 
     @Override
     public void valueChanged(Getter<? extends A> getter) {
+        ValueUtil.pulled(getter);
         if (getter.isValueValid()) {
             target.accept(getter.getValue());
         }
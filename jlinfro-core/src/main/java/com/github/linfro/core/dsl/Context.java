@@ -1,13 +1,18 @@
 package com.github.linfro.core.dsl;
 
+import java.util.concurrent.Executor;
+
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-06
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class Context {
     private boolean sync = false;
     private boolean force = false;
+    private Executor executor = null;
+    private boolean lazy = false;
+    private boolean weak = false;
 
     public boolean isSync() {
         return sync;
@@ -24,4 +29,32 @@ public class Context {
     public void setForce(boolean force) {
         this.force = force;
     }
+
+    public boolean isAsync() {
+        return (executor != null) && !lazy;
+    }
+
+    public boolean isLazy() {
+        return (executor != null) && lazy;
+    }
+
+    public void setLazy(boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    public boolean isWeak() {
+        return weak;
+    }
+
+    public void setWeak(boolean weak) {
+        this.weak = weak;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
 }
@@ -5,13 +5,14 @@ import com.github.linfro.core.GetValue;
 import com.github.linfro.core.HasValue;
 import com.github.linfro.core.common.Disposable;
 
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-06
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public abstract class Flow<DSL, F, SRC extends GetValue<F>> {
@@ -77,6 +78,23 @@ public abstract class Flow<DSL, F, SRC extends GetValue<F>> {
         return nextDSL();
     }
 
+    public DSL async(Executor executor) {
+        context.setExecutor(notNull(executor));
+        context.setLazy(false);
+        return nextDSL();
+    }
+
+    public DSL lazy(Executor scheduler) {
+        context.setExecutor(notNull(scheduler));
+        context.setLazy(true);
+        return nextDSL();
+    }
+
+    public DSL weak() {
+        context.setWeak(true);
+        return nextDSL();
+    }
+
     public Disposable to(HasValueHolder<F> to) {
         return createLink(notNull(to).getContentValue());
     }
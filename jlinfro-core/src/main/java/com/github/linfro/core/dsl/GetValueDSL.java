@@ -12,7 +12,7 @@ import java.util.function.Predicate;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-02-22
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public interface GetValueDSL<T> extends GetValueHolder<T>, GetterDSL, Disposable {
@@ -33,11 +33,11 @@ public interface GetValueDSL<T> extends GetValueHolder<T>, GetterDSL, Disposable
     }
 
     public default <M> GetValue<M> mapNotNull(Function<T, M> function) {
-        return new GetTransformedValue<>(this, new NullSafeFunction<>(function));
+        return map(new NullSafeFunction<>(function));
     }
 
     public default GetValue<T> nvl(T nullValue) {
-        return new GetTransformedValue<>(this, new NvlFunction<T>(nullValue));
+        return map(new NvlFunction<T>(nullValue));
     }
 
     public default GetValue<T> filter(Predicate<? super T> predicate) {
@@ -112,6 +112,57 @@ public interface GetValueDSL<T> extends GetValueHolder<T>, GetterDSL, Disposable
         return new GetJoin2Value<T, T1, M>(this, arg1, function);
     }
 
+    public default <T1, T2, M> GetValue<M> join(GetValueHolder<T1> arg1,
+                                                GetValueHolder<T2> arg2,
+                                                Function3<T, T1, T2, M> function) {
+        return new GetJoin3Value<T, T1, T2, M>(this, arg1, arg2, function);
+    }
+
+    public default <T1, T2, T3, M> GetValue<M> join(GetValueHolder<T1> arg1,
+                                                    GetValueHolder<T2> arg2,
+                                                    GetValueHolder<T3> arg3,
+                                                    Function4<T, T1, T2, T3, M> function) {
+        return new GetJoin4Value<T, T1, T2, T3, M>(this, arg1, arg2, arg3, function);
+    }
+
+    public default <T1, T2, T3, T4, M> GetValue<M> join(GetValueHolder<T1> arg1,
+                                                        GetValueHolder<T2> arg2,
+                                                        GetValueHolder<T3> arg3,
+                                                        GetValueHolder<T4> arg4,
+                                                        Function5<T, T1, T2, T3, T4, M> function) {
+        return new GetJoin5Value<T, T1, T2, T3, T4, M>(this, arg1, arg2, arg3, arg4, function);
+    }
+
+    public default <T1, T2, T3, T4, T5, M> GetValue<M> join(GetValueHolder<T1> arg1,
+                                                            GetValueHolder<T2> arg2,
+                                                            GetValueHolder<T3> arg3,
+                                                            GetValueHolder<T4> arg4,
+                                                            GetValueHolder<T5> arg5,
+                                                            Function6<T, T1, T2, T3, T4, T5, M> function) {
+        return new GetJoin6Value<T, T1, T2, T3, T4, T5, M>(this, arg1, arg2, arg3, arg4, arg5, function);
+    }
+
+    public default <T1, T2, T3, T4, T5, T6, M> GetValue<M> join(GetValueHolder<T1> arg1,
+                                                                GetValueHolder<T2> arg2,
+                                                                GetValueHolder<T3> arg3,
+                                                                GetValueHolder<T4> arg4,
+                                                                GetValueHolder<T5> arg5,
+                                                                GetValueHolder<T6> arg6,
+                                                                Function7<T, T1, T2, T3, T4, T5, T6, M> function) {
+        return new GetJoin7Value<T, T1, T2, T3, T4, T5, T6, M>(this, arg1, arg2, arg3, arg4, arg5, arg6, function);
+    }
+
+    public default <T1, T2, T3, T4, T5, T6, T7, M> GetValue<M> join(GetValueHolder<T1> arg1,
+                                                                    GetValueHolder<T2> arg2,
+                                                                    GetValueHolder<T3> arg3,
+                                                                    GetValueHolder<T4> arg4,
+                                                                    GetValueHolder<T5> arg5,
+                                                                    GetValueHolder<T6> arg6,
+                                                                    GetValueHolder<T7> arg7,
+                                                                    Function8<T, T1, T2, T3, T4, T5, T6, T7, M> function) {
+        return new GetJoin8Value<T, T1, T2, T3, T4, T5, T6, T7, M>(this, arg1, arg2, arg3, arg4, arg5, arg6, arg7, function);
+    }
+
     // Dispose
 
     public default boolean canDispose() {
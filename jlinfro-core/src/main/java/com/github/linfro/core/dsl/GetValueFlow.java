@@ -3,16 +3,40 @@ package com.github.linfro.core.dsl;
 import com.github.linfro.core.GetAggregateValue;
 import com.github.linfro.core.common.Disposable;
 
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-02-23
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public interface GetValueFlow<F> {
     public GetValueFlow<F> force();
 
+    /**
+     * Target is updated on the executor instead of the thread which changes source value.
+     * If target falls behind, only the latest pending value is delivered.
+     * Target must tolerate updates from the executor thread.
+     */
+    public GetValueFlow<F> async(Executor executor);
+
+    /**
+     * Target is updated on the scheduler tick. Change only marks the link stale and schedules the tick,
+     * value is read when the tick runs, so changes between ticks are not calculated at all.
+     * Scheduler must run ticks in the thread which owns source value (e.g. UI event queue).
+     *
+     * @see com.github.linfro.core.value.AbstractGetValue#setLazy(boolean)
+     */
+    public GetValueFlow<F> lazy(Executor scheduler);
+
+    /**
+     * Link does not keep its target reachable: when the target is collected, link is disposed automatically
+     * (see {@link WeakTarget}). Sync link does not keep reachable any of its values.
+     * Weak link can not be created for consumer.
+     */
+    public GetValueFlow<F> weak();
+
     public Disposable to(HasValueHolder<F> to);
 
     public Disposable to(Consumer<? super F> consumer);
@@ -1,13 +1,24 @@
 package com.github.linfro.core.dsl;
 
+import java.util.concurrent.Executor;
+
 /**
  * @author Dmitry Ermakov
- * @version 2014-02-23
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public interface HasValueFlow<F> extends GetValueFlow<F> {
     @Override
     public HasValueFlow<F> force();
 
+    @Override
+    public HasValueFlow<F> async(Executor executor);
+
+    @Override
+    public HasValueFlow<F> lazy(Executor scheduler);
+
+    @Override
+    public HasValueFlow<F> weak();
+
     public HasValueFlow<F> sync();
 }
@@ -0,0 +1,71 @@
+package com.github.linfro.core.dsl;
+
+import com.github.linfro.core.Getter;
+import com.github.linfro.core.ValueChangeListener;
+import com.github.linfro.core.common.Disposable;
+import com.github.linfro.core.value.ValueUtil;
+
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * Listener which pulls value on the scheduler tick. Change only marks the listener stale and schedules single tick,
+ * so the value is read (and derived values are calculated) once per tick regardless of count of changes.
+ * Listener is not thread safe: scheduler must run ticks in the thread which fires changes.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class LazyListener<A> implements ValueChangeListener<A>, Disposable {
+    protected final Consumer<? super A> target;
+    protected final Executor scheduler;
+
+    private final Runnable tickTask = this::tick;
+    private Getter<? extends A> staleGetter;
+    private boolean disposed = false;
+
+    public LazyListener(Consumer<? super A> target, Executor scheduler) {
+        this.target = notNull(target);
+        this.scheduler = notNull(scheduler);
+    }
+
+    @Override
+    public void valueChanged(Getter<? extends A> getter) {
+        if (disposed) {
+            return;
+        }
+
+        boolean scheduled = staleGetter != null;
+        staleGetter = getter;
+        if (!scheduled) {
+            try {
+                scheduler.execute(tickTask);
+            } catch (RuntimeException | Error e) {
+                staleGetter = null;
+                throw e;
+            }
+        }
+    }
+
+    private void tick() {
+        Getter<? extends A> getter = staleGetter;
+        staleGetter = null;
+        if ((getter == null) || disposed) {
+            return;
+        }
+
+        ValueUtil.pulled(getter);
+        if (getter.isValueValid()) {
+            target.accept(getter.getValue());
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        staleGetter = null;
+    }
+}
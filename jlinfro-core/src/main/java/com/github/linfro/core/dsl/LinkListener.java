@@ -3,12 +3,13 @@ package com.github.linfro.core.dsl;
 import com.github.linfro.core.Getter;
 import com.github.linfro.core.HasValue;
 import com.github.linfro.core.ValueChangeListener;
+import com.github.linfro.core.value.ValueUtil;
 
 import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-02-08
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class LinkListener<A> implements ValueChangeListener<A> {
@@ -24,6 +25,7 @@ public class LinkListener<A> implements ValueChangeListener<A> {
 
     @Override
     public void valueChanged(Getter<? extends A> getter) {
+        ValueUtil.pulled(getter);
         if (!lock.lock()) {
             return;
         }
@@ -33,7 +35,7 @@ public class LinkListener<A> implements ValueChangeListener<A> {
                 targetValue.setValue(getter.getValue());
             }
         } finally {
-            lock.unlock();
+            lock.unlockAfterPropagation();
         }
     }
 }
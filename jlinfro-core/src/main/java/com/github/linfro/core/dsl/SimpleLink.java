@@ -5,11 +5,13 @@ import com.github.linfro.core.HasValue;
 import com.github.linfro.core.ValueChangeListener;
 import com.github.linfro.core.common.Disposable;
 
+import java.util.function.Consumer;
+
 import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-06
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class SimpleLink<A> implements Disposable {
@@ -19,6 +21,7 @@ public class SimpleLink<A> implements Disposable {
 
     protected final UnsafeLock lock = new UnsafeLock();
     protected ValueChangeListener<A> fromListener;
+    protected WeakTarget<A> weakTo;
 
     /**
      * Fake listener for "to" value is used to prevent cascade "to" value dispose
@@ -35,7 +38,23 @@ public class SimpleLink<A> implements Disposable {
         this.to = notNull(to);
         this.context = context;
 
-        this.fromListener = new LinkListener<>(this.to, this.context, this.lock);
+        if (this.context.isWeak()) {
+            this.weakTo = new WeakTarget<>(this.to);
+        }
+
+        if (this.context.isAsync()) {
+            this.fromListener = new AsyncListener<>(targetSetter(), this.context.getExecutor());
+        } else if (this.context.isLazy()) {
+            this.fromListener = new LazyListener<>(targetSetter(), this.context.getExecutor());
+        } else if (this.weakTo != null) {
+            this.fromListener = new WeakLinkListener<>(this.weakTo, this.context, this.lock);
+        } else {
+            this.fromListener = new LinkListener<>(this.to, this.context, this.lock);
+        }
+
+        if (this.weakTo != null) {
+            this.weakTo.bind(this.from, this.fromListener);
+        }
 
         if (this.context.isForce()) {
             this.fromListener.valueChanged(this.from);
@@ -43,13 +62,31 @@ public class SimpleLink<A> implements Disposable {
 
         this.from.addChangeListener(this.fromListener);
         this.to.addChangeListener(toListener);
+
+        if (this.weakTo != null) {
+            // Link must not keep its target reachable
+            this.to = null;
+        }
+    }
+
+    private Consumer<A> targetSetter() {
+        return weakTo != null ? weakTo : to::setValue;
     }
 
     @Override
     public void dispose() {
+        if (weakTo != null) {
+            to = weakTo.get();
+            weakTo.unbind();
+            weakTo = null;
+        }
+
         if (from != null) {
             if (fromListener != null) {
                 from.removeChangeListener(fromListener);
+                if (fromListener instanceof Disposable) {
+                    ((Disposable) fromListener).dispose();
+                }
             }
 
             if (from.canDispose()) {
@@ -5,11 +5,13 @@ import com.github.linfro.core.HasValue;
 import com.github.linfro.core.ValueChangeListener;
 import com.github.linfro.core.common.Disposable;
 
+import java.util.function.Consumer;
+
 import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-06
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class SyncLink<A> implements Disposable {
@@ -20,15 +22,53 @@ public class SyncLink<A> implements Disposable {
     protected final UnsafeLock lock = new UnsafeLock();
     protected ValueChangeListener<A> fromListener;
     protected ValueChangeListener<A> toListener;
+    protected WeakTarget<A> weakTo;
+    protected WeakTarget<A> weakFrom;
 
     public SyncLink(HasValue<A> from, HasValue<A> to, Context context) {
+        notNull(context);
+        if (context.isSync() && context.isAsync()) {
+            throw new IllegalArgumentException("Cannot create SyncLink for async context");
+        }
+        if (context.isSync() && context.isLazy()) {
+            throw new IllegalArgumentException("Cannot create SyncLink for lazy context");
+        }
+
         this.from = notNull(from);
         this.to = notNull(to);
-        this.context = notNull(context);
+        this.context = context;
 
-        this.fromListener = new LinkListener<>(this.to, this.context, this.lock);
-        this.toListener = this.context.isSync() ?
-                new LinkListener<>(this.from, this.context, this.lock) : new FakeListener<>();
+        if (this.context.isWeak()) {
+            this.weakTo = new WeakTarget<>(this.to);
+            if (this.context.isSync()) {
+                this.weakFrom = new WeakTarget<>(this.from);
+            }
+        }
+
+        if (this.context.isAsync()) {
+            this.fromListener = new AsyncListener<>(targetSetter(), this.context.getExecutor());
+        } else if (this.context.isLazy()) {
+            this.fromListener = new LazyListener<>(targetSetter(), this.context.getExecutor());
+        } else if (this.weakTo != null) {
+            this.fromListener = new WeakLinkListener<>(this.weakTo, this.context, this.lock);
+        } else {
+            this.fromListener = new LinkListener<>(this.to, this.context, this.lock);
+        }
+
+        if (!this.context.isSync()) {
+            this.toListener = new FakeListener<>();
+        } else if (this.weakFrom != null) {
+            this.toListener = new WeakLinkListener<>(this.weakFrom, this.context, this.lock);
+        } else {
+            this.toListener = new LinkListener<>(this.from, this.context, this.lock);
+        }
+
+        if (this.weakTo != null) {
+            this.weakTo.bind(this.from, this.fromListener);
+        }
+        if (this.weakFrom != null) {
+            this.weakFrom.bind(this.to, this.toListener);
+        }
 
         if (this.context.isForce()) {
             this.fromListener.valueChanged(this.from);
@@ -36,13 +76,39 @@ public class SyncLink<A> implements Disposable {
 
         this.from.addChangeListener(this.fromListener);
         this.to.addChangeListener(this.toListener);
+
+        // Link must not keep reachable values which are referenced weakly
+        if (this.weakTo != null) {
+            this.to = null;
+        }
+        if (this.weakFrom != null) {
+            this.from = null;
+        }
+    }
+
+    private Consumer<A> targetSetter() {
+        return weakTo != null ? weakTo : to::setValue;
     }
 
     @Override
     public void dispose() {
+        if (weakTo != null) {
+            to = weakTo.get();
+            weakTo.unbind();
+            weakTo = null;
+        }
+        if (weakFrom != null) {
+            from = weakFrom.get();
+            weakFrom.unbind();
+            weakFrom = null;
+        }
+
         if (from != null) {
             if (fromListener != null) {
                 from.removeChangeListener(fromListener);
+                if (fromListener instanceof Disposable) {
+                    ((Disposable) fromListener).dispose();
+                }
             }
 
             if (from.canDispose()) {
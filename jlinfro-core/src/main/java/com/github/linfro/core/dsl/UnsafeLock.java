@@ -1,5 +1,7 @@
 package com.github.linfro.core.dsl;
 
+import com.github.linfro.core.value.ValueUtil;
+
 /**
  * @author Dmitry Ermakov
  * @version 2014-02-08
@@ -7,6 +9,7 @@ package com.github.linfro.core.dsl;
  */
 public class UnsafeLock {
     private boolean locked = false;
+    private final Runnable unlockTask = this::unlock;
 
     public boolean lock() {
         if (!locked) {
@@ -20,4 +23,13 @@ public class UnsafeLock {
     public void unlock() {
         locked = false;
     }
+
+    /**
+     * Keeps lock until postponed changes made under the lock are propagated.
+     *
+     * @see ValueUtil#runAfterPropagation(Runnable)
+     */
+    public void unlockAfterPropagation() {
+        ValueUtil.runAfterPropagation(unlockTask);
+    }
 }
@@ -0,0 +1,49 @@
+package com.github.linfro.core.dsl;
+
+import com.github.linfro.core.Getter;
+import com.github.linfro.core.HasValue;
+import com.github.linfro.core.ValueChangeListener;
+import com.github.linfro.core.value.ValueUtil;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * Link listener which does not keep its target reachable (see {@link WeakTarget}).
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class WeakLinkListener<A> implements ValueChangeListener<A> {
+    protected final WeakTarget<A> target;
+    protected final Context context;
+    protected final UnsafeLock lock;
+
+    public WeakLinkListener(WeakTarget<A> target, Context context, UnsafeLock lock) {
+        this.target = notNull(target);
+        this.context = notNull(context);
+        this.lock = notNull(lock);
+    }
+
+    @Override
+    public void valueChanged(Getter<? extends A> getter) {
+        HasValue<A> targetValue = target.get();
+        if (targetValue == null) {
+            target.release();
+            return;
+        }
+
+        ValueUtil.pulled(getter);
+        if (!lock.lock()) {
+            return;
+        }
+
+        try {
+            if (getter.isValueValid()) {
+                targetValue.setValue(getter.getValue());
+            }
+        } finally {
+            lock.unlockAfterPropagation();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.linfro.core.dsl;
+
+import com.github.linfro.core.GetValue;
+import com.github.linfro.core.HasValue;
+import com.github.linfro.core.ValueChangeListener;
+import com.github.linfro.core.common.Disposable;
+
+import java.lang.ref.WeakReference;
+import java.util.function.Consumer;
+
+/**
+ * Weak reference to the target of weak link, so the link does not keep its target reachable.
+ * When the target is collected, the listener which updates it is removed from its source (and the source is
+ * disposed if possible, like on link dispose).
+ * <p>
+ * There is no background thread and no shared reference queue: link listener releases its collected target when
+ * its source fires next time, on the thread which fires the source. So weak link never touches values of other
+ * graphs, and the source which never fires again keeps only the small listener, not the target.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public final class WeakTarget<A> extends WeakReference<HasValue<A>> implements Consumer<A> {
+    private GetValue<?> source;
+    private ValueChangeListener<?> sourceListener;
+
+    public WeakTarget(HasValue<A> target) {
+        super(target);
+    }
+
+    /**
+     * Registers listener which must be removed from the source when the target is collected.
+     */
+    synchronized <S> void bind(GetValue<S> source, ValueChangeListener<? super S> sourceListener) {
+        this.source = source;
+        this.sourceListener = sourceListener;
+    }
+
+    @Override
+    public void accept(A value) {
+        HasValue<A> target = get();
+        if (target != null) {
+            target.setValue(value);
+        }
+    }
+
+    /**
+     * Called on explicit dispose of the link: the target is not tracked any more.
+     */
+    synchronized void unbind() {
+        clear();
+        source = null;
+        sourceListener = null;
+    }
+
+    /**
+     * Removes the listener from the source. Called by the listener when the target has been collected.
+     */
+    @SuppressWarnings("unchecked")
+    void release() {
+        GetValue<Object> value;
+        ValueChangeListener<Object> listener;
+        synchronized (this) {
+            value = (GetValue<Object>) source;
+            listener = (ValueChangeListener<Object>) sourceListener;
+            source = null;
+            sourceListener = null;
+        }
+
+        if (value == null) {
+            return;
+        }
+
+        value.removeChangeListener(listener);
+        if (listener instanceof Disposable) {
+            ((Disposable) listener).dispose();
+        }
+        if (value.canDispose()) {
+            value.dispose();
+        }
+    }
+}
@@ -10,8 +10,11 @@ import static com.github.linfro.core.reflection.ReflectionUtil.getInvokerFactory
 import static com.github.linfro.core.reflection.ReflectionUtil.splitProperty;
 
 /**
+ * Invokers are taken from process-wide {@link PropertyInvokerCache} and remembered in the per-instance map,
+ * which is cleared on dispose (cached invokers stay shared).
+ *
  * @author Dmitry Ermakov
- * @version 2014-01-26
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class AnonymousPropertyInvoker implements Disposable {
@@ -40,7 +43,7 @@ public class AnonymousPropertyInvoker implements Disposable {
         notNull(beanClass);
         PropertyInvoker result = invokerMap.get(beanClass);
         if (result == null) {
-            result = new CompositePropertyInvoker(beanClass, propertyName, nameChain, factory);
+            result = PropertyInvokerCache.getPropertyInvoker(beanClass, propertyName, nameChain, factory);
             invokerMap.put(beanClass, result);
         }
 
@@ -5,7 +5,7 @@ import static com.github.linfro.core.reflection.ReflectionUtil.*;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-16
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class CompositePropertyInvoker implements PropertyInvoker {
@@ -44,7 +44,9 @@ public class CompositePropertyInvoker implements PropertyInvoker {
         boolean read = true;
         for (int i = 0; i < this.nameChain.length; i++) {
             String name = notNull(this.nameChain[i]);
-            SimplePropertyInvoker invoker = notNull(createSimplePropertyInvoker(curBeanClass, name, factory));
+            SimplePropertyInvoker invoker = notNull(
+                    PropertyInvokerCache.getSimplePropertyInvoker(curBeanClass, name, factory)
+            );
             this.invokerChain[i] = invoker;
             curBeanClass = notNull(invoker.getPropertyType());
 
@@ -9,7 +9,7 @@ import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-16
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class DynamicGetterInvoker implements Invoker {
@@ -36,10 +36,22 @@ public class DynamicGetterInvoker implements Invoker {
                     args.length + " arguments");
         }
 
+        return invoke0(bean);
+    }
+
+    @Override
+    public Object invoke0(Object bean) {
+        notNull(bean);
+
         try {
             return getter.invokeExact(bean);
         } catch (Throwable throwable) {
             throw new RuntimeException(throwable);
         }
     }
+
+    @Override
+    public Object invoke1(Object bean, Object arg) {
+        throw new IllegalArgumentException("Invalid arguments count: expected 0 but found 1 arguments");
+    }
 }
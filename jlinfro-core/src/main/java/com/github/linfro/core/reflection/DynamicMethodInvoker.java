@@ -11,12 +11,17 @@ import static com.github.linfro.core.reflection.ReflectionUtil.isPrimitive;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-12
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class DynamicMethodInvoker implements Invoker {
     private final MethodHandle initialHandle;
     private final MethodHandle adoptedHandle;
+
+    /**
+     * Handle of type (Object, Object...)Object for methods with 0 or 1 arguments, null otherwise.
+     */
+    private final MethodHandle exactHandle;
     private final Class<?>[] types;
 
     public DynamicMethodInvoker(Method method) {
@@ -32,6 +37,8 @@ public class DynamicMethodInvoker implements Invoker {
                             )
                     )
             );
+            exactHandle = types.length <= 1 ?
+                    initialHandle.asType(MethodType.genericMethodType(types.length + 1)) : null;
         } catch (IllegalAccessException e) {
             throw new RuntimeException(e);
         }
@@ -70,4 +77,40 @@ public class DynamicMethodInvoker implements Invoker {
             throw new RuntimeException(throwable);
         }
     }
+
+    @Override
+    public Object invoke0(Object bean) {
+        notNull(bean);
+        checkArgumentsCount(0);
+
+        try {
+            return exactHandle.invokeExact(bean);
+        } catch (Throwable throwable) {
+            throw new RuntimeException(throwable);
+        }
+    }
+
+    @Override
+    public Object invoke1(Object bean, Object arg) {
+        notNull(bean);
+        checkArgumentsCount(1);
+
+        Class<?> type = types[0];
+        if ((arg == null) && isPrimitive(type)) {
+            arg = getDefaultPrimitiveValue(type);
+        }
+
+        try {
+            return exactHandle.invokeExact(bean, arg);
+        } catch (Throwable throwable) {
+            throw new RuntimeException(throwable);
+        }
+    }
+
+    private void checkArgumentsCount(int count) {
+        if (count != types.length) {
+            throw new IllegalArgumentException("Invalid arguments count: expected " + types.length
+                    + " but found " + count + " arguments");
+        }
+    }
 }
@@ -4,7 +4,7 @@ import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-16
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class InvalidInvoker implements Invoker {
@@ -18,4 +18,14 @@ public class InvalidInvoker implements Invoker {
     public Object invoke(Object bean, Object... args) {
         throw new IllegalStateException(message);
     }
+
+    @Override
+    public Object invoke0(Object bean) {
+        throw new IllegalStateException(message);
+    }
+
+    @Override
+    public Object invoke1(Object bean, Object arg) {
+        throw new IllegalStateException(message);
+    }
 }
@@ -2,9 +2,25 @@ package com.github.linfro.core.reflection;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-12
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public interface Invoker {
     public Object invoke(Object bean, Object... args);
+
+    /**
+     * Invokes method without arguments (e.g. getter). Unlike {@link #invoke(Object, Object...)} does not allocate
+     * arguments array.
+     */
+    public default Object invoke0(Object bean) {
+        return invoke(bean);
+    }
+
+    /**
+     * Invokes method with single argument (e.g. setter). Unlike {@link #invoke(Object, Object...)} does not allocate
+     * arguments array.
+     */
+    public default Object invoke1(Object bean, Object arg) {
+        return invoke(bean, arg);
+    }
 }
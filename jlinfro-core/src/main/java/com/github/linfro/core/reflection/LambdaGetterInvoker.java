@@ -0,0 +1,80 @@
+package com.github.linfro.core.reflection;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+import static com.github.linfro.core.reflection.ReflectionUtil.isPrimitive;
+import static com.github.linfro.core.reflection.ReflectionUtil.primitiveToWrap;
+
+/**
+ * Invoker of method without arguments (getter) through {@link Function} spun by {@link LambdaMetafactory}.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class LambdaGetterInvoker implements Invoker {
+    private final Function<Object, Object> function;
+
+    @SuppressWarnings("unchecked")
+    public LambdaGetterInvoker(Method method) {
+        notNull(method);
+        if (method.getParameterCount() != 0) {
+            throw new IllegalArgumentException("Getter must not have arguments: " + method);
+        }
+
+        Class<?> type = method.getReturnType();
+        if (type == void.class) {
+            throw new IllegalArgumentException("Getter must return value: " + method);
+        }
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflect(method);
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(isPrimitive(type) ? primitiveToWrap(type) : type, method.getDeclaringClass())
+            );
+            function = notNull((Function<Object, Object>) site.getTarget().invokeExact());
+        } catch (Throwable throwable) {
+            throw new RuntimeException(throwable);
+        }
+    }
+
+    @Override
+    public Object invoke(Object bean, Object... args) {
+        notNull(bean);
+        if ((args != null) && (args.length > 0)) {
+            throw new IllegalArgumentException("Invalid arguments count: expected 0 but found " +
+                    args.length + " arguments");
+        }
+
+        return invoke0(bean);
+    }
+
+    @Override
+    public Object invoke0(Object bean) {
+        notNull(bean);
+
+        try {
+            return function.apply(bean);
+        } catch (Throwable throwable) {
+            throw new RuntimeException(throwable);
+        }
+    }
+
+    @Override
+    public Object invoke1(Object bean, Object arg) {
+        throw new IllegalArgumentException("Invalid arguments count: expected 0 but found 1 arguments");
+    }
+}
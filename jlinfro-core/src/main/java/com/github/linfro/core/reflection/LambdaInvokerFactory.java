@@ -0,0 +1,106 @@
+package com.github.linfro.core.reflection;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * Factory of invokers which call getters and setters through functional interfaces spun by {@link LambdaMetafactory},
+ * so invocation costs about as much as direct call.
+ * <p>
+ * Lambda can be spun only for public instance method of public class, which is visible from class loader of this
+ * library. Other methods, methods which are neither getters nor setters, and fields (lambda cannot target field
+ * directly) are delegated to the fallback factory.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class LambdaInvokerFactory implements InvokerFactory {
+    private final InvokerFactory fallback;
+
+    public LambdaInvokerFactory() {
+        this(new DynamicInvokerFactory());
+    }
+
+    public LambdaInvokerFactory(InvokerFactory fallback) {
+        this.fallback = notNull(fallback);
+    }
+
+    public InvokerFactory getFallback() {
+        return fallback;
+    }
+
+    @Override
+    public Invoker createMethodInvoker(Method method) {
+        notNull(method);
+
+        if (canSpin(method)) {
+            try {
+                if ((method.getParameterCount() == 0) && (method.getReturnType() != void.class)) {
+                    return new LambdaGetterInvoker(method);
+                }
+                if ((method.getParameterCount() == 1) && (method.getReturnType() == void.class)) {
+                    return new LambdaSetterInvoker(method);
+                }
+            } catch (RuntimeException e) {
+                // Lambda cannot be spun, use fallback
+            }
+        }
+
+        return fallback.createMethodInvoker(method);
+    }
+
+    @Override
+    public Invoker createGetterInvoker(Field field) {
+        return fallback.createGetterInvoker(field);
+    }
+
+    @Override
+    public Invoker createSetterInvoker(Field field) {
+        return fallback.createSetterInvoker(field);
+    }
+
+    private static boolean canSpin(Method method) {
+        int modifiers = method.getModifiers();
+        if (!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers)) {
+            return false;
+        }
+
+        if (!isVisible(method.getDeclaringClass()) || !isVisible(method.getReturnType())) {
+            return false;
+        }
+
+        for (Class<?> type : method.getParameterTypes()) {
+            if (!isVisible(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisible(Class<?> clazz) {
+        while (clazz.isArray()) {
+            clazz = clazz.getComponentType();
+        }
+
+        if (clazz.isPrimitive()) {
+            return true;
+        }
+
+        for (Class<?> cur = clazz; cur != null; cur = cur.getEnclosingClass()) {
+            if (!Modifier.isPublic(cur.getModifiers())) {
+                return false;
+            }
+        }
+
+        try {
+            return Class.forName(clazz.getName(), false, LambdaInvokerFactory.class.getClassLoader()) == clazz;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
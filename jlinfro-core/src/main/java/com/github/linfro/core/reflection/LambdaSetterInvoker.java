@@ -0,0 +1,88 @@
+package com.github.linfro.core.reflection;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+import static com.github.linfro.core.reflection.ReflectionUtil.getDefaultPrimitiveValue;
+import static com.github.linfro.core.reflection.ReflectionUtil.isPrimitive;
+import static com.github.linfro.core.reflection.ReflectionUtil.primitiveToWrap;
+
+/**
+ * Invoker of void method with single argument (setter) through {@link BiConsumer} spun by {@link LambdaMetafactory}.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class LambdaSetterInvoker implements Invoker {
+    private final BiConsumer<Object, Object> consumer;
+    private final Class<?> type;
+
+    @SuppressWarnings("unchecked")
+    public LambdaSetterInvoker(Method method) {
+        notNull(method);
+        if ((method.getParameterCount() != 1) || (method.getReturnType() != void.class)) {
+            throw new IllegalArgumentException("Setter must be void method with single argument: " + method);
+        }
+
+        this.type = method.getParameterTypes()[0];
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflect(method);
+            CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(void.class, method.getDeclaringClass(),
+                            isPrimitive(type) ? primitiveToWrap(type) : type)
+            );
+            consumer = notNull((BiConsumer<Object, Object>) site.getTarget().invokeExact());
+        } catch (Throwable throwable) {
+            throw new RuntimeException(throwable);
+        }
+    }
+
+    @Override
+    public Object invoke(Object bean, Object... args) {
+        notNull(bean);
+
+        int argsCount = args == null ? 0 : args.length;
+        if (argsCount != 1) {
+            throw new IllegalArgumentException("Invalid arguments count: expected 1 but found " +
+                    argsCount + " arguments");
+        }
+
+        return invoke1(bean, args[0]);
+    }
+
+    @Override
+    public Object invoke0(Object bean) {
+        throw new IllegalArgumentException("Invalid arguments count: expected 1 but found 0 arguments");
+    }
+
+    @Override
+    public Object invoke1(Object bean, Object arg) {
+        notNull(bean);
+
+        if ((arg == null) && isPrimitive(type)) {
+            arg = getDefaultPrimitiveValue(type);
+        }
+
+        try {
+            consumer.accept(bean, arg);
+        } catch (Throwable throwable) {
+            throw new RuntimeException(throwable);
+        }
+
+        return null;
+    }
+}
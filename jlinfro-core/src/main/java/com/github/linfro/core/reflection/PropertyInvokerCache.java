@@ -0,0 +1,116 @@
+package com.github.linfro.core.reflection;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * Process-wide cache of property invokers keyed by (bean class, property name, invoker factory).
+ * <p>
+ * Invokers are attached to bean class through {@link ClassValue}, so cache does not prevent bean class from
+ * being unloaded. Factories are referenced weakly, so invokers created by abandoned factory are released too
+ * (created invokers must not reference their factory). Invokers are immutable and can be shared between threads.
+ * Concurrent lookup of missing invoker may introspect bean class more than once, but all callers receive the same
+ * instance.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public final class PropertyInvokerCache {
+    private PropertyInvokerCache() {
+    }
+
+    private static final ClassValue<ClassInvokers> CLASS_INVOKERS = new ClassValue<ClassInvokers>() {
+        @Override
+        protected ClassInvokers computeValue(Class<?> type) {
+            return new ClassInvokers();
+        }
+    };
+
+    private static final class ClassInvokers {
+        private final Map<InvokerFactory, FactoryInvokers> factoryMap = new WeakHashMap<>(2);
+
+        private FactoryInvokers get(InvokerFactory factory) {
+            synchronized (factoryMap) {
+                FactoryInvokers result = factoryMap.get(factory);
+                if (result == null) {
+                    result = new FactoryInvokers();
+                    factoryMap.put(factory, result);
+                }
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Composite invokers are built from simple ones, possibly of the same bean class, so maps are filled by
+     * get/putIfAbsent instead of recursive computeIfAbsent.
+     */
+    private static final class FactoryInvokers {
+        private final ConcurrentMap<String, SimplePropertyInvoker> simpleMap = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, CompositePropertyInvoker> compositeMap = new ConcurrentHashMap<>();
+    }
+
+    private static FactoryInvokers getFactoryInvokers(Class<?> beanClass, InvokerFactory factory) {
+        return CLASS_INVOKERS.get(beanClass).get(factory);
+    }
+
+    public static SimplePropertyInvoker getSimplePropertyInvoker(Class<?> beanClass, String propertyName,
+                                                                 InvokerFactory factory) {
+        notNull(beanClass);
+        notNull(propertyName);
+        notNull(factory);
+
+        ConcurrentMap<String, SimplePropertyInvoker> map = getFactoryInvokers(beanClass, factory).simpleMap;
+        SimplePropertyInvoker result = map.get(propertyName);
+        if (result == null) {
+            result = notNull(ReflectionUtil.createSimplePropertyInvoker(beanClass, propertyName, factory));
+            SimplePropertyInvoker old = map.putIfAbsent(propertyName, result);
+            if (old != null) {
+                result = old;
+            }
+        }
+
+        return result;
+    }
+
+    public static CompositePropertyInvoker getPropertyInvoker(Class<?> beanClass, String propertyName,
+                                                              InvokerFactory factory) {
+        return getPropertyInvoker(beanClass, propertyName, null, factory);
+    }
+
+    /**
+     * @param nameChain already split property name, or null to split it on cache miss
+     */
+    public static CompositePropertyInvoker getPropertyInvoker(Class<?> beanClass, String propertyName,
+                                                              String[] nameChain, InvokerFactory factory) {
+        notNull(beanClass);
+        notNull(propertyName);
+        notNull(factory);
+
+        ConcurrentMap<String, CompositePropertyInvoker> map = getFactoryInvokers(beanClass, factory).compositeMap;
+        CompositePropertyInvoker result = map.get(propertyName);
+        if (result == null) {
+            result = nameChain != null ?
+                    new CompositePropertyInvoker(beanClass, propertyName, nameChain, factory) :
+                    new CompositePropertyInvoker(beanClass, propertyName, factory);
+            CompositePropertyInvoker old = map.putIfAbsent(propertyName, result);
+            if (old != null) {
+                result = old;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Drops cached invokers of the given bean class.
+     */
+    public static void clear(Class<?> beanClass) {
+        CLASS_INVOKERS.remove(notNull(beanClass));
+    }
+}
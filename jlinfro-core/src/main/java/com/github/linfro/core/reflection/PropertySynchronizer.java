@@ -10,7 +10,7 @@ import static com.github.linfro.core.reflection.ReflectionUtil.*;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-26
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class PropertySynchronizer implements Disposable {
@@ -40,8 +40,8 @@ public class PropertySynchronizer implements Disposable {
         this.secondName = notNull(secondName);
         this.ignoreNull = ignoreNull;
 
-        PropertyInvoker firstProperty = new CompositePropertyInvoker(this.firstBean.getClass(), this.firstName, factory);
-        PropertyInvoker secondProperty = new CompositePropertyInvoker(this.secondBean.getClass(), this.secondName, factory);
+        PropertyInvoker firstProperty = getPropertyInvoker(this.firstBean.getClass(), this.firstName, factory);
+        PropertyInvoker secondProperty = getPropertyInvoker(this.secondBean.getClass(), this.secondName, factory);
 
         this.firstListener = new BeanListener(this.firstBean, firstProperty, this.secondBean, secondProperty);
         this.secondListener = new BeanListener(this.secondBean, secondProperty, this.firstBean, firstProperty);
@@ -14,7 +14,7 @@ import static com.github.linfro.core.common.ObjectUtil.nvl;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-12
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public final class ReflectionUtil {
@@ -25,6 +25,8 @@ public final class ReflectionUtil {
 
     public static final String KEY_USE_DYNAMIC_INVOKER = "JLinfro.UseDynamicInvoker";
 
+    public static final String KEY_USE_LAMBDA_INVOKER = "JLinfro.UseLambdaInvoker";
+
     public static final Map<Class<?>, Class<?>> PRIMITIVE_TO_WRAP_MAP;
     public static final Map<Class<?>, Class<?>> WRAP_TO_PRIMITIVE_MAP;
 
@@ -64,13 +66,26 @@ public final class ReflectionUtil {
         defMap.put(Double.TYPE, 0D);
         DEFAULT_VALUES_OF_PRIMITIVES = Collections.synchronizedMap(defMap);
 
-        invokerFactory = isUseDynamicInvoker() ? new DynamicInvokerFactory() : new ReflectiveInvokerFactory();
+        if (isUseLambdaInvoker()) {
+            invokerFactory = new LambdaInvokerFactory(
+                    isUseDynamicInvoker() ? new DynamicInvokerFactory() : new ReflectiveInvokerFactory()
+            );
+        } else {
+            invokerFactory = isUseDynamicInvoker() ? new DynamicInvokerFactory() : new ReflectiveInvokerFactory();
+        }
     }
 
     public static boolean isUseDynamicInvoker() {
         return "true".equals(System.getProperty(KEY_USE_DYNAMIC_INVOKER, "false"));
     }
 
+    /**
+     * Lambda invoker factory falls back to dynamic invoker factory if it is enabled too, otherwise to reflective one.
+     */
+    public static boolean isUseLambdaInvoker() {
+        return "true".equals(System.getProperty(KEY_USE_LAMBDA_INVOKER, "false"));
+    }
+
     public static boolean isPrimitive(Class<?> clazz) {
         return PRIMITIVE_TO_WRAP_MAP.containsKey(notNull(clazz));
     }
@@ -190,6 +205,17 @@ public final class ReflectionUtil {
         return new SimplePropertyInvoker(beanClass, propertyName, type, getterInvoker, setterInvoker);
     }
 
+    /**
+     * @return cached invoker of the property, see {@link PropertyInvokerCache}
+     */
+    public static PropertyInvoker getPropertyInvoker(Class<?> beanClass, String propertyName, InvokerFactory factory) {
+        return PropertyInvokerCache.getPropertyInvoker(beanClass, propertyName, factory);
+    }
+
+    public static PropertyInvoker getPropertyInvoker(Class<?> beanClass, String propertyName) {
+        return getPropertyInvoker(beanClass, propertyName, getInvokerFactory());
+    }
+
     public static void setAccessibleIfNeed(Field field) {
         notNull(field);
         if (!Modifier.isPublic(field.getModifiers()) || !Modifier.isPublic(field.getDeclaringClass().getModifiers())) {
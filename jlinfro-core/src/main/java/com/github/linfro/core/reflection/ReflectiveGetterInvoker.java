@@ -7,7 +7,7 @@ import static com.github.linfro.core.reflection.ReflectionUtil.setAccessibleIfNe
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-14
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class ReflectiveGetterInvoker implements Invoker {
@@ -26,10 +26,22 @@ public class ReflectiveGetterInvoker implements Invoker {
                     args.length + " arguments");
         }
 
+        return invoke0(bean);
+    }
+
+    @Override
+    public Object invoke0(Object bean) {
+        notNull(bean);
+
         try {
             return field.get(bean);
         } catch (IllegalAccessException e) {
             throw new RuntimeException(e);
         }
     }
+
+    @Override
+    public Object invoke1(Object bean, Object arg) {
+        throw new IllegalArgumentException("Invalid arguments count: expected 0 but found 1 arguments");
+    }
 }
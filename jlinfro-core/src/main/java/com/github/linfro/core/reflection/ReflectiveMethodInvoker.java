@@ -8,10 +8,12 @@ import static com.github.linfro.core.reflection.ReflectionUtil.*;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-12
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class ReflectiveMethodInvoker implements Invoker {
+    private static final Object[] NO_ARGS = new Object[0];
+
     private final Method method;
     private final Class<?>[] types;
 
@@ -55,4 +57,44 @@ public class ReflectiveMethodInvoker implements Invoker {
             throw new RuntimeException(e);
         }
     }
+
+    @Override
+    public Object invoke0(Object bean) {
+        notNull(bean);
+        checkArgumentsCount(0);
+
+        try {
+            return method.invoke(bean, NO_ARGS);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Reflection API requires arguments array, so single element array is still allocated here, but arguments are
+     * not copied for primitive null defaulting.
+     */
+    @Override
+    public Object invoke1(Object bean, Object arg) {
+        notNull(bean);
+        checkArgumentsCount(1);
+
+        Class<?> type = types[0];
+        if ((arg == null) && isPrimitive(type)) {
+            arg = getDefaultPrimitiveValue(type);
+        }
+
+        try {
+            return method.invoke(bean, arg);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void checkArgumentsCount(int count) {
+        if (count != types.length) {
+            throw new IllegalArgumentException("Invalid arguments count: expected " + types.length
+                    + " but found " + count + " arguments");
+        }
+    }
 }
@@ -7,7 +7,7 @@ import static com.github.linfro.core.reflection.ReflectionUtil.*;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-14
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class ReflectiveSetterInvoker implements Invoker {
@@ -31,7 +31,18 @@ public class ReflectiveSetterInvoker implements Invoker {
                     argsCount + " arguments");
         }
 
-        Object arg = args[0];
+        return invoke1(bean, args[0]);
+    }
+
+    @Override
+    public Object invoke0(Object bean) {
+        throw new IllegalArgumentException("Invalid arguments count: expected 1 but found 0 arguments");
+    }
+
+    @Override
+    public Object invoke1(Object bean, Object arg) {
+        notNull(bean);
+
         if ((arg == null) && isPrimitive(type)) {
             arg = getDefaultPrimitiveValue(type);
         }
@@ -4,7 +4,7 @@ import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-16
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class SimplePropertyInvoker implements PropertyInvoker {
@@ -39,12 +39,12 @@ public class SimplePropertyInvoker implements PropertyInvoker {
 
     @Override
     public Object getPropertyValue(Object bean) {
-        return getter.invoke(bean);
+        return getter.invoke0(bean);
     }
 
     @Override
     public void setPropertyValue(Object bean, Object value) {
-        setter.invoke(bean, value);
+        setter.invoke1(bean, value);
     }
 
     @Override
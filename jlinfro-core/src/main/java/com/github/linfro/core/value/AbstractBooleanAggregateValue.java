@@ -0,0 +1,159 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetAggregateValue;
+import com.github.linfro.core.HasValue;
+import com.github.linfro.core.common.ObjectUtil;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Boolean aggregate value which keeps count of arguments and count of true arguments (null is treated as false).
+ * Every argument change or dispose updates counters in O(1), and change is fired only if aggregation result
+ * actually flips. Arguments are kept in intrusive linked list, so argument dispose costs O(1) too.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public abstract class AbstractBooleanAggregateValue extends AbstractGetValue<Boolean> implements GetAggregateValue<Boolean> {
+    protected Boolean initialValue;
+
+    private int count = 0;
+    private int trueCount = 0;
+    private boolean result;
+
+    private Argument first;
+    private Argument last;
+
+    protected AbstractBooleanAggregateValue(Boolean initialValue) {
+        this.initialValue = initialValue;
+        this.result = aggregate(0, 0);
+    }
+
+    /**
+     * @return aggregation result for count of all arguments and count of true arguments
+     */
+    protected abstract boolean aggregate(int trueCount, int count);
+
+    @Override
+    public Boolean getValue() {
+        DependencyTracker.read(this);
+        return result;
+    }
+
+    public int getArgumentCount() {
+        return count;
+    }
+
+    public int getTrueCount() {
+        return trueCount;
+    }
+
+    @Override
+    public HasValue<Boolean> newArgument() {
+        Argument member = new Argument(getInitialValue());
+        if (last == null) {
+            first = member;
+        } else {
+            last.next = member;
+            member.prev = last;
+        }
+        last = member;
+
+        update(1, ObjectUtil.nvl(member.value) ? 1 : 0);
+        return member;
+    }
+
+    protected Boolean getInitialValue() {
+        return initialValue;
+    }
+
+    private void update(int countDelta, int trueCountDelta) {
+        count += countDelta;
+        trueCount += trueCountDelta;
+
+        boolean newResult = aggregate(trueCount, count);
+        if (newResult != result) {
+            result = newResult;
+            fireValueChanged();
+        }
+    }
+
+    private class Argument extends AbstractHasValue<Boolean> {
+        private Boolean value;
+        private boolean disposed = false;
+        private Argument prev;
+        private Argument next;
+
+        private Argument(Boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        public Boolean getValue() {
+            DependencyTracker.read(this);
+            return value;
+        }
+
+        @Override
+        public void setValue(Boolean value) {
+            boolean oldTrue = ObjectUtil.nvl(this.value);
+            this.value = value;
+            if (!disposed) {
+                boolean newTrue = ObjectUtil.nvl(value);
+                if (oldTrue != newTrue) {
+                    update(0, newTrue ? 1 : -1);
+                }
+            }
+            super.fireValueChanged();
+        }
+
+        @Override
+        public void dispose() {
+            if (disposed) {
+                return;
+            }
+
+            disposed = true;
+            if (prev == null) {
+                first = next;
+            } else {
+                prev.next = next;
+            }
+
+            if (next == null) {
+                last = prev;
+            } else {
+                next.prev = prev;
+            }
+
+            prev = null;
+            next = null;
+            update(-1, ObjectUtil.nvl(value) ? -1 : 0);
+        }
+    }
+
+    @Override
+    public Iterator<Boolean> iterator() {
+        return new Iterator<Boolean>() {
+            private Argument cursor = first;
+
+            @Override
+            public boolean hasNext() {
+                return cursor != null;
+            }
+
+            @Override
+            public Boolean next() {
+                if (cursor == null) {
+                    throw new NoSuchElementException();
+                }
+
+                Boolean value = cursor.value;
+                cursor = cursor.next;
+                return value;
+            }
+        };
+    }
+}
@@ -0,0 +1,186 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetValue;
+import com.github.linfro.core.ValueChangeListener;
+import com.github.linfro.core.common.Equality;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * Wrapper which can be fused with following map/filter/strong operators.
+ * If operator is applied to undisposed wrapper without listeners, the operator is not wrapped around this value,
+ * but single {@link GetFusedValue} running the whole pipeline is created over the source of this value.
+ * This value is detached from its source (it does not listen to it any more) and is owned by the fused value:
+ * it can not be disposed separately and is disposed together with the fused value. Detached value still returns
+ * actual result (without caching) and is attached back as soon as somebody starts to listen to it. Then the fused
+ * value is unfused: it listens to this value and runs only its own stages, so every function is still run once
+ * per change.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public abstract class AbstractFusableValue<F, T> extends AbstractWrapperValue<F, T, GetValue<F>> implements GetValue<T> {
+    boolean attached = true;
+
+    /**
+     * Fused value which has absorbed this value (and reads it again after unfuse).
+     */
+    GetFusedValue<?, ?> owner;
+    AbstractFusableValue<?, ?> absorbed;
+
+    protected AbstractFusableValue(GetValue<F> from) {
+        super(from);
+    }
+
+    /**
+     * @return pipeline stages equivalent to this value (see {@link GetFusedValue})
+     */
+    protected abstract Object[] getStages();
+
+    protected boolean canFuse() {
+        return (from != null) && (owner == null) && !hasListeners();
+    }
+
+    /**
+     * @return true if value listens to its source, so cached result is updated on change
+     */
+    protected final boolean isAttached() {
+        return attached;
+    }
+
+    @Override
+    public <M> GetValue<M> map(Function<T, M> function) {
+        notNull(function);
+        if (!canFuse()) {
+            return new GetTransformedValue<>(this, function);
+        }
+
+        return fuse(function, null);
+    }
+
+    @Override
+    public GetValue<T> filter(Predicate<? super T> predicate) {
+        notNull(predicate);
+        if (!canFuse()) {
+            return new GetFilteredValue<>(this, predicate);
+        }
+
+        return fuse(new GetFusedValue.Filter(predicate), null);
+    }
+
+    @Override
+    public GetValue<T> strong(Equality<? super T> equality) {
+        notNull(equality);
+        if (!canFuse()) {
+            return new GetStrongValue<>(this, equality);
+        }
+
+        return fuse(null, equality);
+    }
+
+    private <M> GetFusedValue<F, M> fuse(Object stage, Equality<? super M> equality) {
+        Object[] stages = getStages();
+        if (stage != null) {
+            stages = Arrays.copyOf(stages, stages.length + 1);
+            stages[stages.length - 1] = stage;
+        }
+
+        GetFusedValue<F, M> result = new GetFusedValue<>(from, stages, equality);
+        result.setGlitchFree(isGlitchFree());
+        if (isLazy()) {
+            result.setLazy(true);
+        }
+        result.absorbed = this;
+
+        owner = result;
+        attached = false;
+        from.removeChangeListener(fromListener);
+        // Drop cached result: it is not updated any more
+        fireValueChanged();
+
+        return result;
+    }
+
+    @Override
+    public void addChangeListener(ValueChangeListener<? super T> listener) {
+        if (!attached && (from != null)) {
+            if (isFused()) {
+                // Owner attaches this value by listening to it
+                owner.unfuse();
+            }
+            if (!attached) {
+                attached = true;
+                from.addChangeListener(fromListener);
+            }
+        }
+
+        super.addChangeListener(listener);
+    }
+
+    /**
+     * @return true if stages of this value are run by its owner
+     */
+    final boolean isFused() {
+        return (owner != null) && (owner.from != this);
+    }
+
+    @Override
+    public boolean canDispose() {
+        return (owner == null) && super.canDispose();
+    }
+
+    /**
+     * Dispose of fused value (owned by the value which has absorbed it) only drops its own listeners: the source
+     * (or this value, if the owner has been unfused) is still used by the owner and is disposed together with it.
+     * Subclasses release their state in {@link #releaseState()}.
+     */
+    @Override
+    public void dispose() {
+        if (owner != null) {
+            clearListeners();
+            if (!isFused()) {
+                // Owner reads this value
+                @SuppressWarnings("unchecked")
+                ValueChangeListener<? super T> ownerListener = (ValueChangeListener<? super T>) owner.fromListener;
+                super.addChangeListener(ownerListener);
+            } else if (attached && (from != null)) {
+                attached = false;
+                from.removeChangeListener(fromListener);
+            }
+            return;
+        }
+
+        AbstractFusableValue<?, ?> value = absorbed;
+        if (value == null) {
+            super.dispose();
+            releaseState();
+            return;
+        }
+
+        // Source is owned by absorbed value
+        absorbed = null;
+        clearListeners();
+        if (from != null) {
+            from.removeChangeListener(fromListener);
+            from = null;
+        }
+        releaseState();
+
+        value.owner = null;
+        if (value.canDispose()) {
+            value.dispose();
+        }
+    }
+
+    /**
+     * Called when value is really disposed (not when dispose of fused value is ignored) to release its state.
+     */
+    protected void releaseState() {
+        // Do nothing
+    }
+}
@@ -1,44 +1,554 @@
 package com.github.linfro.core.value;
 
 import com.github.linfro.core.GetValue;
+import com.github.linfro.core.Getter;
 import com.github.linfro.core.ValueChangeListener;
+import com.github.linfro.core.ValueDeltaListener;
 
-import java.util.LinkedList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 
 import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
+ * Listeners are stored in copy-on-write array. Listener array is replaced on every add/remove operation,
+ * so fire event iterates over stable snapshot without any allocation, and listeners can be safely added or removed
+ * while fire event is in progress (changes take effect from next fire event).
+ * <p>
+ * By default change is propagated depth-first: every listener is notified recursively. If value is marked as
+ * glitch-free, its change is propagated in topological order: every dependent value (bound through
+ * {@link DependencyListener}) is fired exactly once per change and only after all its changed arguments.
+ * Inside of batch (see {@link ValueUtil#batch(Runnable)}) fire event is postponed up to the batch end.
+ * Trampolined value notifies listeners depth-first by loop instead of recursion.
+ * <p>
+ * Lazy value only marks its listeners stale: once fired, it does not fire again until it is read (or pulled by
+ * sink, see {@link ValueUtil#pulled(Getter)}). Stale state is kept by every value separately. Derived values
+ * recalculate on read, so intermediate changes cost nothing when nobody reads them. Listener of lazy value which
+ * does not read the value is notified only about the first change after the last read. Value depending on lazy
+ * value becomes lazy too.
+ * <p>
+ * Value may be part of {@link CompiledGraph}: then its change is propagated by the graph.
+ *
  * @author Dmitry Ermakov
- * @version 2014-01-05
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public abstract class AbstractGetValue<T> implements GetValue<T> {
-    protected final List<ValueChangeListener<? super T>> listeners = new LinkedList<>();
-    private boolean fireEventInProgress = false;
+    private static final ValueChangeListener[] NO_LISTENERS = new ValueChangeListener[0];
+
+    @SuppressWarnings("unchecked")
+    private ValueChangeListener<? super T>[] listeners = NO_LISTENERS;
+    boolean fireEventInProgress = false;
+    private int rank = 0;
+
+    // State of optional modes, created on first use (plain value has none)
+    ModeState modes;
 
     @Override
     public void addChangeListener(ValueChangeListener<? super T> listener) {
-        listeners.add(notNull(listener));
+        insertListener(listeners.length, notNull(listener));
     }
 
     @Override
     public void removeChangeListener(ValueChangeListener<? super T> listener) {
-        listeners.remove(notNull(listener));
+        notNull(listener);
+
+        ValueChangeListener<? super T>[] oldListeners = listeners;
+        for (int i = 0; i < oldListeners.length; i++) {
+            if (listener.equals(oldListeners[i])) {
+                removeListener(i);
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void insertListener(int index, ValueChangeListener<? super T> listener) {
+        ValueChangeListener<? super T>[] oldListeners = listeners;
+        ValueChangeListener<? super T>[] newListeners = new ValueChangeListener[oldListeners.length + 1];
+        System.arraycopy(oldListeners, 0, newListeners, 0, index);
+        newListeners[index] = listener;
+        System.arraycopy(oldListeners, index, newListeners, index + 1, oldListeners.length - index);
+
+        listeners = newListeners;
+        ModeState state = modes;
+        if (state != null) {
+            if (state.plan != null) {
+                state.plan.release();
+            }
+            if (state.lazy) {
+                // New listener must receive next change
+                rearm();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ValueChangeListener<? super T> removeListener(int index) {
+        ValueChangeListener<? super T>[] oldListeners = listeners;
+        ValueChangeListener<? super T> listener = oldListeners[index];
+        ModeState state = modes;
+        if ((state != null) && (state.plan != null)) {
+            state.plan.release();
+        }
+
+        if (oldListeners.length == 1) {
+            listeners = NO_LISTENERS;
+            return listener;
+        }
+
+        ValueChangeListener<? super T>[] newListeners = new ValueChangeListener[oldListeners.length - 1];
+        System.arraycopy(oldListeners, 0, newListeners, 0, index);
+        System.arraycopy(oldListeners, index + 1, newListeners, index, oldListeners.length - index - 1);
+
+        listeners = newListeners;
+        return listener;
+    }
+
+    protected boolean hasListeners() {
+        return listeners.length > 0;
+    }
+
+    /**
+     * Returns live list view of change listeners. Modification of the list is the same as
+     * {@link #addChangeListener(ValueChangeListener)} / {@link #removeChangeListener(ValueChangeListener)}, and
+     * takes effect from next fire event. Replaces protected {@code listeners} list of previous versions.
+     */
+    protected List<ValueChangeListener<? super T>> getListeners() {
+        return new ListenerList();
+    }
+
+    private final class ListenerList extends AbstractList<ValueChangeListener<? super T>> {
+        @Override
+        public ValueChangeListener<? super T> get(int index) {
+            return listeners[index];
+        }
+
+        @Override
+        public int size() {
+            return listeners.length;
+        }
+
+        @Override
+        public void add(int index, ValueChangeListener<? super T> listener) {
+            if ((index < 0) || (index > listeners.length)) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + listeners.length);
+            }
+            insertListener(index, notNull(listener));
+        }
+
+        @Override
+        public ValueChangeListener<? super T> remove(int index) {
+            if ((index < 0) || (index >= listeners.length)) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + listeners.length);
+            }
+            return removeListener(index);
+        }
+
+        @Override
+        public ValueChangeListener<? super T> set(int index, ValueChangeListener<? super T> listener) {
+            ValueChangeListener<? super T> old = remove(index);
+            insertListener(index, notNull(listener));
+            return old;
+        }
+
+        @Override
+        public void clear() {
+            clearListeners();
+        }
+    }
+
+    /**
+     * All delta listeners of the value share single change listener, which keeps previous value.
+     */
+    @Override
+    public void addDeltaListener(ValueDeltaListener<? super T> listener) {
+        notNull(listener);
+
+        DeltaDispatcher<T> dispatcher = deltaDispatcher();
+        if (dispatcher == null) {
+            dispatcher = new DeltaDispatcher<>(this);
+            dispatcher.capture();
+            addChangeListener(dispatcher);
+            modes().deltaDispatcher = dispatcher;
+        }
+        dispatcher.add(listener);
+    }
+
+    @Override
+    public void removeDeltaListener(ValueDeltaListener<? super T> listener) {
+        notNull(listener);
+
+        DeltaDispatcher<T> dispatcher = deltaDispatcher();
+        if (dispatcher == null) {
+            return;
+        }
+
+        dispatcher.remove(listener);
+        if (dispatcher.isEmpty()) {
+            modes.deltaDispatcher = null;
+            removeChangeListener(dispatcher);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private DeltaDispatcher<T> deltaDispatcher() {
+        ModeState state = modes;
+        return state == null ? null : (DeltaDispatcher<T>) state.deltaDispatcher;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void clearListeners() {
+        listeners = NO_LISTENERS;
+        ModeState state = modes;
+        if (state != null) {
+            state.deltaDispatcher = null;
+            if (state.plan != null) {
+                state.plan.release();
+            }
+        }
+    }
+
+    ValueChangeListener<? super T>[] listeners() {
+        return listeners;
+    }
+
+    /**
+     * @return state of optional modes, created if absent
+     */
+    ModeState modes() {
+        ModeState state = modes;
+        if (state == null) {
+            state = new ModeState();
+            modes = state;
+        }
+        return state;
+    }
+
+    public boolean isGlitchFree() {
+        return (modes != null) && modes.glitchFree;
+    }
+
+    /**
+     * Enables topological (glitch-free) propagation of changes fired by this value.
+     */
+    public void setGlitchFree(boolean glitchFree) {
+        if (glitchFree || (modes != null)) {
+            modes().glitchFree = glitchFree;
+        }
+    }
+
+    public boolean isTrampolined() {
+        return (modes != null) && modes.trampolined;
+    }
+
+    /**
+     * Enables iterative (trampolined) depth-first propagation of changes fired by this value: stack depth does not
+     * depend on the length of the chain. Values fired during such propagation join it and are notified when the
+     * current listener returns, so the order is the same as by ordinary propagation only for listeners which fire
+     * values as their last action (see {@link Trampoline}).
+     */
+    public void setTrampolined(boolean trampolined) {
+        if (trampolined || (modes != null)) {
+            modes().trampolined = trampolined;
+        }
+    }
+
+    public int getMaxReentrantIterations() {
+        return modes == null ? 0 : modes.maxReentrantIterations;
+    }
+
+    /**
+     * Enables re-entrant mode: change fired while this value notifies its listeners (e.g. listener sets this value)
+     * does not throw call loop exception, but is queued and applied after the current notification, and then
+     * listeners are notified again. If value is not settled in given count of iterations, call loop is detected.
+     *
+     * @param maxIterations max count of repeated notifications, 0 disables re-entrant mode
+     */
+    public void setMaxReentrantIterations(int maxIterations) {
+        if (maxIterations < 0) {
+            throw new IllegalArgumentException("Iteration count must not be negative");
+        }
+        if ((maxIterations > 0) || (modes != null)) {
+            modes().maxReentrantIterations = maxIterations;
+        }
+    }
+
+    /**
+     * @return true if change made now is queued up to the end of the current fire event (see re-entrant mode)
+     */
+    protected final boolean isChangeQueued() {
+        return fireEventInProgress && (modes != null) && (modes.maxReentrantIterations > 0);
+    }
+
+    public boolean isLazy() {
+        return (modes != null) && modes.lazy;
+    }
+
+    /**
+     * Enables lazy (push-invalidate, pull-evaluate) propagation of changes fired by this value.
+     */
+    public void setLazy(boolean lazy) {
+        if (lazy || (modes != null)) {
+            ModeState state = modes();
+            state.lazy = lazy;
+            state.stale = false;
+        }
+    }
+
+    /**
+     * Clears stale state of this value and of lazy arguments which are stale too, so the next change is fired
+     * up to this value. Argument which is not stale has been read since its last change, so its own arguments
+     * are not stale either.
+     */
+    void rearm() {
+        ModeState state = modes;
+        if ((state == null) || !state.stale) {
+            return;
+        }
+
+        state.stale = false;
+        AbstractGetValue<?>[] args = state.lazyArgs;
+        if (args != null) {
+            for (AbstractGetValue<?> arg : args) {
+                arg.rearm();
+            }
+        }
+    }
+
+    /**
+     * @return length of the longest dependency path from source value to this value
+     */
+    public int getRank() {
+        return rank;
+    }
+
+    /**
+     * Registers argument of this value. Must be called for every argument listened by {@link DependencyListener}.
+     */
+    protected void dependsOn(GetValue<?> arg) {
+        int argRank = arg instanceof AbstractGetValue ? ((AbstractGetValue<?>) arg).rank : 0;
+        if (argRank >= rank) {
+            rank = argRank + 1;
+        }
+
+        if ((arg instanceof AbstractGetValue) && ((AbstractGetValue<?>) arg).isLazy()) {
+            ModeState state = modes();
+            state.lazy = true;
+            addLazyArg(state, (AbstractGetValue<?>) arg);
+        }
+    }
+
+    private static void addLazyArg(ModeState state, AbstractGetValue<?> arg) {
+        AbstractGetValue<?>[] args = state.lazyArgs;
+        if (args == null) {
+            state.lazyArgs = new AbstractGetValue<?>[]{arg};
+            return;
+        }
+
+        for (AbstractGetValue<?> item : args) {
+            if (item == arg) {
+                return;
+            }
+        }
+
+        args = Arrays.copyOf(args, args.length + 1);
+        args[args.length - 1] = arg;
+        state.lazyArgs = args;
+    }
+
+    /**
+     * Called by {@link DependencyListener} before this value is fired because of argument change.
+     */
+    protected void dependencyChanged(Getter<?> getter) {
+        // Do nothing
     }
 
     public void fireValueChanged() {
         if (fireEventInProgress) {
+            ModeState state = modes;
+            if ((state != null) && (state.maxReentrantIterations > 0)) {
+                // Listeners are notified again when the current fire event is finished
+                state.refirePending = true;
+                return;
+            }
             throw new IllegalStateException("Call loop detected");
         }
 
+        ValueChangeListener<? super T>[] snapshot = listeners;
+        if (snapshot.length == 0) {
+            return;
+        }
+
+        ModeState state = modes;
+        if ((state == null) || (state.processedBy == null)) {
+            if ((state != null) && state.lazy) {
+                if (state.stale) {
+                    // Listeners are already stale
+                    return;
+                }
+                state.stale = true;
+            }
+
+            ThreadContext context = ThreadContext.get();
+            Propagation propagation = context.propagation;
+            if ((propagation != null) && !propagation.isFired(this)) {
+                propagation.schedule(this, Propagation.FIRED);
+                return;
+            }
+
+            if ((state == null) || ((state.plan == null) && !state.glitchFree)) {
+                Trampoline trampoline = context.trampoline;
+                if (trampoline != null) {
+                    trampoline.push(this, snapshot);
+                    return;
+                }
+            }
+        }
+
         fireEventInProgress = true;
         try {
-            for (ValueChangeListener<? super T> listener : listeners) {
-                listener.valueChanged(this);
+            if (state == null) {
+                notifyListeners(snapshot);
+            } else {
+                notifyListeners(state, snapshot);
+            }
+        } catch (RuntimeException | Error e) {
+            fireAborted();
+            throw e;
+        }
+        fireFinished();
+    }
+
+    private void notifyListeners(ModeState state, ValueChangeListener<? super T>[] snapshot) {
+        if (state.processedBy != null) {
+            state.processedBy.dispatch(this, snapshot);
+            return;
+        }
+
+        if ((state.plan != null) && state.plan.fire(this)) {
+            return;
+        }
+
+        if (state.glitchFree) {
+            Propagation propagation = Propagation.open();
+            try {
+                propagation.dispatch(this, snapshot);
+                propagation.finish();
+            } finally {
+                propagation.close();
+            }
+            return;
+        }
+
+        if (state.trampolined) {
+            Trampoline.run(this, snapshot);
+            return;
+        }
+
+        notifyListeners(snapshot);
+    }
+
+    private void notifyListeners(ValueChangeListener<? super T>[] snapshot) {
+        switch (snapshot.length) {
+            case 1:
+                snapshot[0].valueChanged(this);
+                break;
+            case 2:
+                snapshot[0].valueChanged(this);
+                snapshot[1].valueChanged(this);
+                break;
+            default:
+                for (ValueChangeListener<? super T> listener : snapshot) {
+                    listener.valueChanged(this);
+                }
+        }
+    }
+
+    /**
+     * Called when listeners have been notified. If change has been fired again during notification (re-entrant
+     * mode), queued change is applied and listeners are notified again.
+     */
+    void fireFinished() {
+        fireEventInProgress = false;
+        ModeState state = modes;
+        if (state == null) {
+            return;
+        }
+
+        if (!state.refirePending) {
+            state.refireCount = 0;
+            return;
+        }
+
+        if (state.refiring) {
+            // Outer loop notifies listeners again
+            return;
+        }
+
+        state.refiring = true;
+        try {
+            while (state.refirePending) {
+                state.refirePending = false;
+                applyQueuedChange();
+                if (++state.refireCount > state.maxReentrantIterations) {
+                    state.refireCount = 0;
+                    throw new IllegalStateException("Call loop detected: value is not settled in "
+                            + state.maxReentrantIterations + " iterations");
+                }
+                fireValueChanged();
             }
         } finally {
-            fireEventInProgress = false;
+            state.refiring = false;
+        }
+    }
+
+    /**
+     * Called when notification of listeners has failed. Queued change is applied without notification.
+     */
+    void fireAborted() {
+        fireEventInProgress = false;
+        ModeState state = modes;
+        if (state == null) {
+            return;
+        }
+
+        if (state.refirePending) {
+            state.refirePending = false;
+            applyQueuedChange();
+        }
+        state.refireCount = 0;
+    }
+
+    /**
+     * Applies change which has been queued during fire event (see {@link #setMaxReentrantIterations(int)}).
+     * Called before listeners are notified again.
+     */
+    protected void applyQueuedChange() {
+        // Do nothing
+    }
+
+    /**
+     * Notifies listeners about change that has been already fired inside of batch.
+     */
+    void fireScheduled() {
+        if (fireEventInProgress) {
+            throw new IllegalStateException("Call loop detected");
+        }
+
+        ValueChangeListener<? super T>[] snapshot = listeners;
+        if (snapshot.length == 0) {
+            return;
+        }
+
+        fireEventInProgress = true;
+        try {
+            modes.processedBy.dispatch(this, snapshot);
+        } catch (RuntimeException | Error e) {
+            fireAborted();
+            throw e;
         }
+        fireFinished();
     }
 }
@@ -1,7 +1,6 @@
 package com.github.linfro.core.value;
 
 import com.github.linfro.core.GetValue;
-import com.github.linfro.core.Getter;
 import com.github.linfro.core.ValueChangeListener;
 
 import static com.github.linfro.core.common.ObjectUtil.notNull;
@@ -13,16 +12,12 @@ import static com.github.linfro.core.common.ObjectUtil.notNull;
  */
 public abstract class AbstractWrapperValue<F, T, VAL extends GetValue<F>> extends AbstractGetValue<T> {
     protected VAL from;
-    protected final ValueChangeListener<F> fromListener = new ValueChangeListener<F>() {
-        @Override
-        public void valueChanged(Getter<? extends F> getter) {
-            fireValueChanged();
-        }
-    };
+    protected final ValueChangeListener<F> fromListener = new DependencyListener<>(this);
 
     protected AbstractWrapperValue(VAL from) {
         this.from = notNull(from);
         this.from.addChangeListener(fromListener);
+        dependsOn(this.from);
     }
 
     @Override
@@ -52,12 +47,12 @@ public abstract class AbstractWrapperValue<F, T, VAL extends GetValue<F>> extend
 
     @Override
     public boolean canDispose() {
-        return listeners.isEmpty();
+        return !hasListeners();
     }
 
     @Override
     public void dispose() {
-        listeners.clear();
+        clearListeners();
 
         if (from == null) {
             return;
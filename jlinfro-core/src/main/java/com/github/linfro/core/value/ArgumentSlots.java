@@ -0,0 +1,89 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.Getter;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks which argument slots of multi-argument value are out of date.
+ * Argument may occupy several slots (if it is passed several times).
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+final class ArgumentSlots {
+    private final Map<Getter<?>, int[]> slots = new IdentityHashMap<>();
+    private final boolean[] dirty;
+    private final int[] dirtySlots;
+    private int dirtyCount = 0;
+    private boolean allDirty = true;
+
+    ArgumentSlots(List<? extends Getter<?>> args) {
+        int size = args.size();
+        for (int i = 0; i < size; i++) {
+            Getter<?> arg = args.get(i);
+            int[] argSlots = slots.get(arg);
+            if (argSlots == null) {
+                argSlots = new int[]{i};
+            } else {
+                argSlots = Arrays.copyOf(argSlots, argSlots.length + 1);
+                argSlots[argSlots.length - 1] = i;
+            }
+            slots.put(arg, argSlots);
+        }
+
+        this.dirty = new boolean[size];
+        this.dirtySlots = new int[size];
+    }
+
+    void markChanged(Getter<?> getter) {
+        if (allDirty) {
+            return;
+        }
+
+        int[] argSlots = slots.get(getter);
+        if (argSlots == null) {
+            allDirty = true;
+            return;
+        }
+
+        for (int slot : argSlots) {
+            if (!dirty[slot]) {
+                dirty[slot] = true;
+                dirtySlots[dirtyCount++] = slot;
+            }
+        }
+    }
+
+    void markAll() {
+        allDirty = true;
+    }
+
+    boolean isAllDirty() {
+        return allDirty;
+    }
+
+    boolean isClean() {
+        return !allDirty && (dirtyCount == 0);
+    }
+
+    int dirtyCount() {
+        return dirtyCount;
+    }
+
+    int dirtySlot(int i) {
+        return dirtySlots[i];
+    }
+
+    void clean() {
+        for (int i = 0; i < dirtyCount; i++) {
+            dirty[dirtySlots[i]] = false;
+        }
+        dirtyCount = 0;
+        allDirty = false;
+    }
+}
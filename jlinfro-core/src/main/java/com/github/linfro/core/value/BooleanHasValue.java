@@ -0,0 +1,44 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetBooleanValue;
+
+/**
+ * Null value is stored as false, like reflection invokers do for primitive properties, so generic links pushing
+ * null do not fail in the middle of propagation.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class BooleanHasValue extends AbstractHasValue<Boolean> implements GetBooleanValue {
+    protected boolean value;
+
+    public BooleanHasValue() {
+    }
+
+    public BooleanHasValue(boolean value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean getBoolean() {
+        DependencyTracker.read(this);
+        return value;
+    }
+
+    public void setBoolean(boolean value) {
+        this.value = value;
+        fireValueChanged();
+    }
+
+    @Override
+    public Boolean getValue() {
+        DependencyTracker.read(this);
+        return value;
+    }
+
+    @Override
+    public void setValue(Boolean value) {
+        setBoolean(value != null ? value : false);
+    }
+}
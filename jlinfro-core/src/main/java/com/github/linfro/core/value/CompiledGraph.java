@@ -0,0 +1,349 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetValue;
+import com.github.linfro.core.ValueChangeListener;
+import com.github.linfro.core.common.Disposable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * Frozen value graph: all values reachable from the source values through dependencies
+ * (see {@link DependencyListener}) are put into flat array in topological order, dependencies are stored as
+ * int-indexed edges. Change of compiled value is propagated in the order of this array: changed value marks
+ * its dependents, and every marked value is fired once, after all its changed arguments (like glitch-free
+ * propagation). Marked values are kept in binary heap of their indexes, so cost of propagation depends only on the
+ * size of the changed part of the graph. Other listeners (e.g. links) are notified when their value is fired.
+ * <p>
+ * Values stay in place as handles into the compiled graph. Any change of listeners of compiled value releases the
+ * graph (when the current propagation ends), and values return to ordinary propagation.
+ * Batch and glitch-free propagation take precedence over compiled graph.
+ * <p>
+ * Value which is fired again after it has been already fired by the current propagation is notified immediately
+ * (as nested change).
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public final class CompiledGraph implements Disposable {
+    private static final ValueChangeListener[] NO_LISTENERS = new ValueChangeListener[0];
+
+    private final AbstractGetValue<?>[] nodes;
+    private final int[] edgeStart;
+    private final int[] edgeTarget;
+    private final ValueChangeListener[][] sinks;
+    private final boolean[] dirty;
+
+    // Binary min-heap of dirty indexes
+    private final int[] heap;
+    private int heapSize = 0;
+
+    private int cursor = -1;
+    private boolean running = false;
+    private boolean released = false;
+    private boolean releasePending = false;
+
+    private CompiledGraph(AbstractGetValue<?>[] nodes, int[] edgeStart, int[] edgeTarget,
+                          ValueChangeListener[][] sinks) {
+        this.nodes = nodes;
+        this.edgeStart = edgeStart;
+        this.edgeTarget = edgeTarget;
+        this.sinks = sinks;
+        this.dirty = new boolean[nodes.length];
+        this.heap = new int[nodes.length];
+    }
+
+    /**
+     * Compiles graph of values reachable from the sources. Values of another compiled graph are moved to the new one
+     * (old graph is released).
+     *
+     * @throws IllegalArgumentException if some source can not be compiled
+     */
+    public static CompiledGraph compile(GetValue<?>... sources) {
+        notNull(sources);
+
+        // Collect reachable values
+        Map<AbstractGetValue<?>, Integer> indexes = new IdentityHashMap<>();
+        List<AbstractGetValue<?>> found = new ArrayList<>();
+        for (GetValue<?> source : sources) {
+            if (!(notNull(source) instanceof AbstractGetValue)) {
+                throw new IllegalArgumentException("Value can not be compiled: " + source);
+            }
+            visit((AbstractGetValue<?>) source, indexes, found);
+        }
+        for (int i = 0; i < found.size(); i++) {
+            for (ValueChangeListener<?> listener : found.get(i).listeners()) {
+                if (listener instanceof DependencyListener) {
+                    visit(((DependencyListener<?>) listener).getOwner(), indexes, found);
+                }
+            }
+        }
+
+        // Dependencies (duplicates are removed) and in-degrees
+        int size = found.size();
+        int[][] targets = new int[size][];
+        int[] inDegree = new int[size];
+        for (int i = 0; i < size; i++) {
+            int[] nodeTargets = new int[0];
+            for (ValueChangeListener<?> listener : found.get(i).listeners()) {
+                if (listener instanceof DependencyListener) {
+                    int target = indexes.get(((DependencyListener<?>) listener).getOwner());
+                    if (indexOf(nodeTargets, target) < 0) {
+                        nodeTargets = Arrays.copyOf(nodeTargets, nodeTargets.length + 1);
+                        nodeTargets[nodeTargets.length - 1] = target;
+                        inDegree[target]++;
+                    }
+                }
+            }
+            targets[i] = nodeTargets;
+        }
+
+        // Topological order (Kahn's algorithm, found order is kept for independent values)
+        int[] order = new int[size];
+        int[] position = new int[size];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < size; i++) {
+            if (inDegree[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            int node = order[head++];
+            for (int target : targets[node]) {
+                if (--inDegree[target] == 0) {
+                    order[tail++] = target;
+                }
+            }
+        }
+        if (tail != size) {
+            throw new IllegalArgumentException("Value graph has dependency loop");
+        }
+        for (int i = 0; i < size; i++) {
+            position[order[i]] = i;
+        }
+
+        // Flat arrays
+        AbstractGetValue<?>[] nodes = new AbstractGetValue<?>[size];
+        ValueChangeListener[][] sinks = new ValueChangeListener[size][];
+        int[] edgeStart = new int[size + 1];
+        int edgeCount = 0;
+        for (int[] nodeTargets : targets) {
+            edgeCount += nodeTargets.length;
+        }
+        int[] edgeTarget = new int[edgeCount];
+
+        int edge = 0;
+        for (int i = 0; i < size; i++) {
+            AbstractGetValue<?> node = found.get(order[i]);
+            nodes[i] = node;
+            sinks[i] = collectSinks(node.listeners());
+
+            edgeStart[i] = edge;
+            int[] nodeTargets = targets[order[i]];
+            for (int target : nodeTargets) {
+                edgeTarget[edge++] = position[target];
+            }
+            Arrays.sort(edgeTarget, edgeStart[i], edge);
+        }
+        edgeStart[size] = edge;
+
+        CompiledGraph graph = new CompiledGraph(nodes, edgeStart, edgeTarget, sinks);
+        for (int i = 0; i < size; i++) {
+            ModeState state = nodes[i].modes;
+            if ((state != null) && (state.plan != null)) {
+                state.plan.release();
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            ModeState state = nodes[i].modes();
+            state.plan = graph;
+            state.planIndex = i;
+        }
+        return graph;
+    }
+
+    private static void visit(AbstractGetValue<?> value, Map<AbstractGetValue<?>, Integer> indexes,
+                              List<AbstractGetValue<?>> found) {
+        if (!indexes.containsKey(value)) {
+            indexes.put(value, found.size());
+            found.add(value);
+        }
+    }
+
+    private static int indexOf(int[] array, int value) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static ValueChangeListener[] collectSinks(ValueChangeListener<?>[] listeners) {
+        int count = 0;
+        for (ValueChangeListener<?> listener : listeners) {
+            if (!(listener instanceof DependencyListener)) {
+                count++;
+            }
+        }
+        if (count == 0) {
+            return NO_LISTENERS;
+        }
+
+        ValueChangeListener[] result = new ValueChangeListener[count];
+        int i = 0;
+        for (ValueChangeListener<?> listener : listeners) {
+            if (!(listener instanceof DependencyListener)) {
+                result[i++] = listener;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return count of compiled values
+     */
+    public int size() {
+        return nodes.length;
+    }
+
+    public boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Called by value of this graph instead of notification of its listeners.
+     *
+     * @return false if value must notify its listeners as usual (nested change of already fired value)
+     */
+    boolean fire(AbstractGetValue<?> value) {
+        int index = value.modes.planIndex;
+        if (!running) {
+            run(index);
+            return true;
+        }
+
+        if (index == cursor) {
+            dispatch(index);
+            return true;
+        }
+
+        if (index > cursor) {
+            mark(index);
+            return true;
+        }
+
+        return false;
+    }
+
+    private void run(int source) {
+        running = true;
+        try {
+            cursor = source;
+            dispatch(source);
+
+            while (heapSize > 0) {
+                int index = poll();
+                dirty[index] = false;
+                cursor = index;
+                nodes[index].fireValueChanged();
+            }
+        } finally {
+            while (heapSize > 0) {
+                dirty[heap[--heapSize]] = false;
+            }
+            cursor = -1;
+            running = false;
+            if (releasePending) {
+                release();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dispatch(int index) {
+        AbstractGetValue<?> value = nodes[index];
+        for (int i = edgeStart[index], end = edgeStart[index + 1]; i < end; i++) {
+            int target = edgeTarget[i];
+            nodes[target].dependencyChanged(value);
+            mark(target);
+        }
+
+        for (ValueChangeListener listener : sinks[index]) {
+            listener.valueChanged(value);
+        }
+    }
+
+    private void mark(int index) {
+        if (dirty[index]) {
+            return;
+        }
+
+        dirty[index] = true;
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= index) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = index;
+    }
+
+    private int poll() {
+        int result = heap[0];
+        int last = heap[--heapSize];
+        int i = 0;
+        int half = heapSize >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if ((child + 1 < heapSize) && (heap[child + 1] < heap[child])) {
+                child++;
+            }
+            if (last <= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return result;
+    }
+
+    /**
+     * Returns values to ordinary propagation. If propagation of this graph is in progress, graph is released when
+     * the propagation ends.
+     */
+    void release() {
+        if (released) {
+            return;
+        }
+
+        if (running) {
+            releasePending = true;
+            return;
+        }
+
+        released = true;
+        for (AbstractGetValue<?> node : nodes) {
+            ModeState state = node.modes;
+            if (state.plan == this) {
+                state.plan = null;
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        release();
+    }
+}
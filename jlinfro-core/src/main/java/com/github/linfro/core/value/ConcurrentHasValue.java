@@ -0,0 +1,198 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.HasValue;
+import com.github.linfro.core.ValueChangeListener;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.UnaryOperator;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * Thread safe value. Value can be set by any thread without external synchronization.
+ * Atomic operations ({@link #compareAndSet(Object, Object)}, {@link #getAndSet(Object)},
+ * {@link #updateAndGet(UnaryOperator)}, {@link #getAndUpdate(UnaryOperator)}) compare values by identity.
+ * Listeners are stored in copy-on-write array updated by CAS, so add/remove never block.
+ * <p>
+ * Ordering of notifications: listeners are never notified concurrently. Thread which changes the value while there is
+ * no notification in progress becomes dispatcher and notifies listeners. Changes made by other threads in the
+ * meantime do not notify listeners themselves: dispatcher notifies listeners once more after the current notification,
+ * so listeners always observe the latest value, but concurrent changes may be coalesced into single notification.
+ * Thus the change made by some thread may be delivered to listeners after this thread returns from setter.
+ * If listener throws exception, pending notifications are dropped.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class ConcurrentHasValue<T> implements HasValue<T> {
+    private static final ValueChangeListener[] NO_LISTENERS = new ValueChangeListener[0];
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentHasValue, Object> VALUE =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentHasValue.class, Object.class, "value");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ConcurrentHasValue, ValueChangeListener[]> LISTENERS =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentHasValue.class, ValueChangeListener[].class, "listeners");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<ConcurrentHasValue> MISSED =
+            AtomicIntegerFieldUpdater.newUpdater(ConcurrentHasValue.class, "missed");
+
+    private volatile T value;
+
+    @SuppressWarnings("unchecked")
+    private volatile ValueChangeListener<? super T>[] listeners = NO_LISTENERS;
+
+    /**
+     * Count of changes not delivered to listeners yet. Non zero value means that some thread is dispatcher.
+     */
+    private volatile int missed = 0;
+    private volatile Thread dispatcher;
+
+    public ConcurrentHasValue() {
+    }
+
+    public ConcurrentHasValue(T value) {
+        this.value = value;
+    }
+
+    @Override
+    public T getValue() {
+        return value;
+    }
+
+    @Override
+    public void setValue(T value) {
+        this.value = value;
+        fireValueChanged();
+    }
+
+    public boolean compareAndSet(T expect, T update) {
+        if (VALUE.compareAndSet(this, expect, update)) {
+            fireValueChanged();
+            return true;
+        }
+
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getAndSet(T value) {
+        T prev = (T) VALUE.getAndSet(this, value);
+        fireValueChanged();
+        return prev;
+    }
+
+    public T updateAndGet(UnaryOperator<T> function) {
+        notNull(function);
+
+        T prev;
+        T next;
+        do {
+            prev = value;
+            next = function.apply(prev);
+        } while (!VALUE.compareAndSet(this, prev, next));
+
+        fireValueChanged();
+        return next;
+    }
+
+    public T getAndUpdate(UnaryOperator<T> function) {
+        notNull(function);
+
+        T prev;
+        T next;
+        do {
+            prev = value;
+            next = function.apply(prev);
+        } while (!VALUE.compareAndSet(this, prev, next));
+
+        fireValueChanged();
+        return prev;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void addChangeListener(ValueChangeListener<? super T> listener) {
+        notNull(listener);
+
+        ValueChangeListener<? super T>[] oldListeners;
+        ValueChangeListener<? super T>[] newListeners;
+        do {
+            oldListeners = listeners;
+            newListeners = new ValueChangeListener[oldListeners.length + 1];
+            System.arraycopy(oldListeners, 0, newListeners, 0, oldListeners.length);
+            newListeners[oldListeners.length] = listener;
+        } while (!LISTENERS.compareAndSet(this, oldListeners, newListeners));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void removeChangeListener(ValueChangeListener<? super T> listener) {
+        notNull(listener);
+
+        ValueChangeListener<? super T>[] oldListeners;
+        ValueChangeListener<? super T>[] newListeners;
+        do {
+            oldListeners = listeners;
+            int index = -1;
+            for (int i = 0; i < oldListeners.length; i++) {
+                if (listener.equals(oldListeners[i])) {
+                    index = i;
+                    break;
+                }
+            }
+
+            if (index < 0) {
+                return;
+            }
+
+            if (oldListeners.length == 1) {
+                newListeners = NO_LISTENERS;
+            } else {
+                newListeners = new ValueChangeListener[oldListeners.length - 1];
+                System.arraycopy(oldListeners, 0, newListeners, 0, index);
+                System.arraycopy(oldListeners, index + 1, newListeners, index, oldListeners.length - index - 1);
+            }
+        } while (!LISTENERS.compareAndSet(this, oldListeners, newListeners));
+    }
+
+    public void fireValueChanged() {
+        Thread current = Thread.currentThread();
+        if (dispatcher == current) {
+            throw new IllegalStateException("Call loop detected");
+        }
+
+        if (MISSED.getAndIncrement(this) != 0) {
+            // Active dispatcher will notify listeners
+            return;
+        }
+
+        dispatcher = current;
+        int delivered = 1;
+        boolean completed = false;
+        try {
+            while (true) {
+                for (ValueChangeListener<? super T> listener : listeners) {
+                    listener.valueChanged(this);
+                }
+
+                dispatcher = null;
+                delivered = MISSED.addAndGet(this, -delivered);
+                if (delivered == 0) {
+                    break;
+                }
+                dispatcher = current;
+            }
+            completed = true;
+        } finally {
+            if (!completed) {
+                dispatcher = null;
+                MISSED.set(this, 0);
+            }
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.github.linfro.core.value;
 import com.github.linfro.core.GetAggregateValue;
 import com.github.linfro.core.HasValue;
 import com.github.linfro.core.common.Aggregator;
+import com.github.linfro.core.common.IncrementalAggregator;
+import com.github.linfro.core.common.IncrementalAggregator.Accumulator;
 
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -11,14 +13,22 @@ import java.util.List;
 import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
+ * If aggregator is {@link IncrementalAggregator}, aggregation is updated by argument deltas (O(1) per argument change),
+ * otherwise it is recalculated over all arguments after every change.
+ * <p>
+ * Arguments are kept in the {@link #arguments} list, so argument dispose takes O(n) to find the argument.
+ * For large sets of frequently created and disposed arguments use {@link SegmentTreeAggregateValue}, which reuses
+ * argument slots.
+ *
  * @author Dmitry Ermakov
- * @version 2014-01-05
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class DefaultGetAggregateValue<T> extends AbstractGetValue<T> implements GetAggregateValue<T> {
     protected final Aggregator<T> aggregator;
     protected T initialValue;
     protected final List<HasValue<T>> arguments = new LinkedList<>();
+    protected final Accumulator<T> accumulator;
 
     private T aggregation;
     private boolean aggregationCalculated = false;
@@ -30,15 +40,26 @@ public class DefaultGetAggregateValue<T> extends AbstractGetValue<T> implements
     public DefaultGetAggregateValue(Aggregator<T> aggregator, T initialValue) {
         this.aggregator = notNull(aggregator);
         this.initialValue = initialValue;
+        this.accumulator = aggregator instanceof IncrementalAggregator ?
+                notNull(((IncrementalAggregator<T>) aggregator).newAccumulator()) : null;
     }
 
     @Override
     public T getValue() {
-        if (!aggregationCalculated) {
-            aggregation = aggregator.aggregate(this);
-            aggregationCalculated = true;
+        DependencyTracker tracker = DependencyTracker.enter(this);
+        try {
+            if (accumulator != null) {
+                return accumulator.getResult();
+            }
+
+            if (!aggregationCalculated) {
+                aggregation = aggregator.aggregate(this);
+                aggregationCalculated = true;
+            }
+            return aggregation;
+        } finally {
+            DependencyTracker.exit(tracker);
         }
-        return aggregation;
     }
 
     @Override
@@ -51,6 +72,9 @@ public class DefaultGetAggregateValue<T> extends AbstractGetValue<T> implements
     public HasValue<T> newArgument() {
         DisposableArgument member = new DisposableArgument(getInitialValue());
         arguments.add(member);
+        if (accumulator != null) {
+            accumulator.add(member.value);
+        }
         fireValueChanged();
 
         return member;
@@ -70,13 +94,18 @@ public class DefaultGetAggregateValue<T> extends AbstractGetValue<T> implements
 
         @Override
         public T getValue() {
+            DependencyTracker.read(this);
             return value;
         }
 
         @Override
         public void setValue(T value) {
+            T oldValue = this.value;
             this.value = value;
             if (!disposed) {
+                if (accumulator != null) {
+                    accumulator.replace(oldValue, value);
+                }
                 DefaultGetAggregateValue.this.fireValueChanged();
             }
             super.fireValueChanged();
@@ -87,6 +116,9 @@ public class DefaultGetAggregateValue<T> extends AbstractGetValue<T> implements
             if (!disposed) {
                 disposed = true;
                 arguments.remove(this);
+                if (accumulator != null) {
+                    accumulator.remove(value);
+                }
                 DefaultGetAggregateValue.this.fireValueChanged();
             }
         }
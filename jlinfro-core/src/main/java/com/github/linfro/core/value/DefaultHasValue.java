@@ -2,12 +2,15 @@ package com.github.linfro.core.value;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-05
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class DefaultHasValue<T> extends AbstractHasValue<T> {
     protected T value;
 
+    private T queuedValue;
+    private boolean queued = false;
+
     public DefaultHasValue() {
     }
 
@@ -17,12 +20,29 @@ public class DefaultHasValue<T> extends AbstractHasValue<T> {
 
     @Override
     public T getValue() {
+        DependencyTracker.read(this);
         return value;
     }
 
     @Override
     public void setValue(T value) {
+        if (isChangeQueued()) {
+            queuedValue = value;
+            queued = true;
+            fireValueChanged();
+            return;
+        }
+
         this.value = value;
         fireValueChanged();
     }
+
+    @Override
+    protected void applyQueuedChange() {
+        if (queued) {
+            value = queuedValue;
+            queuedValue = null;
+            queued = false;
+        }
+    }
 }
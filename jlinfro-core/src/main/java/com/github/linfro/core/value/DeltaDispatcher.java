@@ -0,0 +1,111 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.Getter;
+import com.github.linfro.core.ValueChangeEvent;
+import com.github.linfro.core.ValueChangeListener;
+import com.github.linfro.core.ValueDeltaListener;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * Single change listener which notifies all delta listeners of the value. Keeps previous value of the value and is
+ * itself the event object passed to delta listeners, so notification does not allocate.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+class DeltaDispatcher<T> implements ValueChangeListener<T>, ValueChangeEvent<T> {
+    private static final ValueDeltaListener[] NO_LISTENERS = new ValueDeltaListener[0];
+
+    @SuppressWarnings("unchecked")
+    private ValueDeltaListener<? super T>[] listeners = NO_LISTENERS;
+
+    private Getter<? extends T> getter;
+    private T oldValue;
+    private boolean oldValueValid;
+    private T newValue;
+    private boolean newValueValid;
+
+    DeltaDispatcher(Getter<? extends T> getter) {
+        this.getter = notNull(getter);
+    }
+
+    /**
+     * Remembers current value as previous value of the next change.
+     */
+    void capture() {
+        newValueValid = getter.isValueValid();
+        newValue = newValueValid ? getter.getValue() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    void add(ValueDeltaListener<? super T> listener) {
+        notNull(listener);
+
+        ValueDeltaListener<? super T>[] newListeners = new ValueDeltaListener[listeners.length + 1];
+        System.arraycopy(listeners, 0, newListeners, 0, listeners.length);
+        newListeners[listeners.length] = listener;
+        listeners = newListeners;
+    }
+
+    @SuppressWarnings("unchecked")
+    void remove(ValueDeltaListener<? super T> listener) {
+        notNull(listener);
+
+        ValueDeltaListener<? super T>[] oldListeners = listeners;
+        for (int i = 0; i < oldListeners.length; i++) {
+            if (listener.equals(oldListeners[i])) {
+                ValueDeltaListener<? super T>[] newListeners = new ValueDeltaListener[oldListeners.length - 1];
+                System.arraycopy(oldListeners, 0, newListeners, 0, i);
+                System.arraycopy(oldListeners, i + 1, newListeners, i, oldListeners.length - i - 1);
+                listeners = newListeners;
+                return;
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return listeners.length == 0;
+    }
+
+    @Override
+    public void valueChanged(Getter<? extends T> getter) {
+        ValueUtil.pulled(getter);
+
+        this.getter = getter;
+        oldValue = newValue;
+        oldValueValid = newValueValid;
+        newValueValid = getter.isValueValid();
+        newValue = newValueValid ? getter.getValue() : null;
+
+        for (ValueDeltaListener<? super T> listener : listeners) {
+            listener.valueChanged(this);
+        }
+    }
+
+    @Override
+    public Getter<? extends T> getGetter() {
+        return getter;
+    }
+
+    @Override
+    public T getOldValue() {
+        return oldValue;
+    }
+
+    @Override
+    public boolean isOldValueValid() {
+        return oldValueValid;
+    }
+
+    @Override
+    public T getNewValue() {
+        return newValue;
+    }
+
+    @Override
+    public boolean isNewValueValid() {
+        return newValueValid;
+    }
+}
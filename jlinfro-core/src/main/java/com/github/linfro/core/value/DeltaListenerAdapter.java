@@ -0,0 +1,51 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.Getter;
+import com.github.linfro.core.ValueDeltaListener;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * Change listener which delivers changes to single delta listener. Used for values which do not share previous
+ * value between delta listeners. Adapters are equal if they wrap the same delta listener, so adapter can be removed
+ * by new adapter instance. Adapters are created by {@link ValueUtil#newDeltaListener} and
+ * {@link ValueUtil#deltaListenerKey}.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+final class DeltaListenerAdapter<T> extends DeltaDispatcher<T> {
+    private final ValueDeltaListener<? super T> listener;
+
+    /**
+     * @param capture true to remember current value of the getter, false if adapter is used only to remove equal
+     *                adapter
+     */
+    DeltaListenerAdapter(Getter<? extends T> getter, ValueDeltaListener<? super T> listener, boolean capture) {
+        super(getter);
+        this.listener = notNull(listener);
+        add(listener);
+        if (capture) {
+            capture();
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        DeltaListenerAdapter<?> that = (DeltaListenerAdapter<?>) obj;
+        return listener.equals(that.listener);
+    }
+
+    @Override
+    public int hashCode() {
+        return listener.hashCode();
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.Getter;
+import com.github.linfro.core.ValueChangeListener;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * Listener which binds derived value to one of its arguments.
+ * Ordered propagation recognizes this listener and schedules owner value instead of recursive call.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public final class DependencyListener<T> implements ValueChangeListener<T> {
+    private final AbstractGetValue<?> owner;
+
+    public DependencyListener(AbstractGetValue<?> owner) {
+        this.owner = notNull(owner);
+    }
+
+    public AbstractGetValue<?> getOwner() {
+        return owner;
+    }
+
+    @Override
+    public void valueChanged(Getter<? extends T> getter) {
+        owner.dependencyChanged(getter);
+        owner.fireValueChanged();
+    }
+}
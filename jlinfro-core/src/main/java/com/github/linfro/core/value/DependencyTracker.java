@@ -0,0 +1,122 @@
+package com.github.linfro.core.value;
+
+import java.util.Arrays;
+
+/**
+ * Records values read by evaluation of {@link GetComputedValue}.
+ * Every value reports its read by {@link #read(AbstractGetValue)}. Derived value reads its arguments between
+ * {@link #enter(AbstractGetValue)} and {@link #exit(DependencyTracker)}, so only values read directly by evaluation
+ * are recorded, not arguments of them. Every value is recorded once per evaluation.
+ * <p>
+ * Values which are not based on {@link AbstractGetValue} (e.g. {@link ConcurrentHasValue}) are not recorded.
+ * <p>
+ * Read of lazy value clears its stale state (see {@link AbstractGetValue#setLazy(boolean)}), so the value fires
+ * its next change.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+final class DependencyTracker {
+    private AbstractGetValue<?>[] values = new AbstractGetValue<?>[4];
+    private int size = 0;
+    private long id = 0;
+    private boolean running = false;
+    private DependencyTracker outer;
+
+    /**
+     * Records read of the value.
+     */
+    static void read(AbstractGetValue<?> value) {
+        ModeState state = value.modes;
+        if ((state != null) && state.stale) {
+            state.stale = false;
+        }
+
+        DependencyTracker tracker = ThreadContext.get().tracker;
+        if (tracker != null) {
+            tracker.record(value);
+        }
+    }
+
+    /**
+     * Records read of the value and suspends recording while value reads its arguments.
+     *
+     * @return suspended tracker, must be passed to {@link #exit(DependencyTracker)}
+     */
+    static DependencyTracker enter(AbstractGetValue<?> value) {
+        ModeState state = value.modes;
+        if ((state != null) && state.stale) {
+            state.stale = false;
+        }
+
+        ThreadContext context = ThreadContext.get();
+        DependencyTracker tracker = context.tracker;
+        if (tracker != null) {
+            tracker.record(value);
+            context.tracker = null;
+        }
+        return tracker;
+    }
+
+    static void exit(DependencyTracker tracker) {
+        if (tracker != null) {
+            ThreadContext.get().tracker = tracker;
+        }
+    }
+
+    /**
+     * Starts recording of evaluation. Tracker of outer evaluation is suspended up to {@link #stop()}.
+     */
+    void start() {
+        if (running) {
+            throw new IllegalStateException("Call loop detected");
+        }
+
+        clear();
+        running = true;
+        ThreadContext context = ThreadContext.get();
+        id = context.nextId();
+        outer = context.tracker;
+        context.tracker = this;
+    }
+
+    void stop() {
+        ThreadContext.get().tracker = outer;
+        outer = null;
+        running = false;
+    }
+
+    /**
+     * @return id of the last evaluation, recorded values are marked by it
+     */
+    long id() {
+        return id;
+    }
+
+    private void record(AbstractGetValue<?> value) {
+        ModeState state = value.modes();
+        if (state.trackedBy == id) {
+            return;
+        }
+
+        state.trackedBy = id;
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    AbstractGetValue<?> get(int index) {
+        return values[index];
+    }
+
+    void clear() {
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetDoubleValue;
+
+/**
+ * Null value is stored as 0.0, like reflection invokers do for primitive properties, so generic links pushing
+ * null do not fail in the middle of propagation.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class DoubleHasValue extends AbstractHasValue<Double> implements GetDoubleValue {
+    protected double value;
+
+    public DoubleHasValue() {
+    }
+
+    public DoubleHasValue(double value) {
+        this.value = value;
+    }
+
+    @Override
+    public double getDouble() {
+        DependencyTracker.read(this);
+        return value;
+    }
+
+    public void setDouble(double value) {
+        this.value = value;
+        fireValueChanged();
+    }
+
+    @Override
+    public Double getValue() {
+        DependencyTracker.read(this);
+        return value;
+    }
+
+    @Override
+    public void setValue(Double value) {
+        setDouble(value != null ? value : 0.0);
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.linfro.core.value;
+
+/**
+ * True if there is at least one argument and all arguments are true.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class GetAndValue extends AbstractBooleanAggregateValue {
+    public GetAndValue() {
+        this(null);
+    }
+
+    public GetAndValue(Boolean initialValue) {
+        super(initialValue);
+    }
+
+    @Override
+    protected boolean aggregate(int trueCount, int count) {
+        return (count > 0) && (trueCount == count);
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetBooleanValue;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class GetBooleanNotValue extends AbstractWrapperValue<Boolean, Boolean, GetBooleanValue> implements GetBooleanValue {
+    public GetBooleanNotValue(GetBooleanValue from) {
+        super(from);
+    }
+
+    @Override
+    public boolean getBoolean() {
+        if (from == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        DependencyTracker tracker = DependencyTracker.enter(this);
+        try {
+            return !from.getBoolean();
+        } finally {
+            DependencyTracker.exit(tracker);
+        }
+    }
+}
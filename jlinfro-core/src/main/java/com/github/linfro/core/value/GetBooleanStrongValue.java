@@ -0,0 +1,63 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetBooleanValue;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class GetBooleanStrongValue extends AbstractWrapperValue<Boolean, Boolean, GetBooleanValue> implements GetBooleanValue {
+    private boolean curValueValid = false;
+    private boolean curValue;
+
+    public GetBooleanStrongValue(GetBooleanValue from) {
+        super(from);
+
+        this.curValueValid = this.from.isValueValid();
+        this.curValue = this.curValueValid && this.from.getBoolean();
+    }
+
+    @Override
+    public boolean isValueValid() {
+        if (from == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        return curValueValid;
+    }
+
+    @Override
+    public boolean getBoolean() {
+        DependencyTracker.read(this);
+        if (from == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        return curValue;
+    }
+
+    @Override
+    public void fireValueChanged() {
+        if (from == null) {
+            return;
+        }
+
+        boolean oldValueValid = curValueValid;
+        boolean oldValue = curValue;
+
+        curValueValid = from.isValueValid();
+        curValue = curValueValid && from.getBoolean();
+
+        if ((oldValueValid != curValueValid) || (curValueValid && (oldValue != curValue))) {
+            super.fireValueChanged();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        curValueValid = false;
+        curValue = false;
+    }
+}
@@ -0,0 +1,183 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.Getter;
+import com.github.linfro.core.ValueChangeListener;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * Value calculated by supplier which depends on values read by the supplier.
+ * Values read during evaluation are recorded (see {@link DependencyTracker}), and computed value listens only to
+ * them: when evaluation takes another branch and reads other values, dependencies are updated. Change of a value
+ * which has not been read by the last evaluation does not fire computed value.
+ * <p>
+ * Supplier is evaluated on creation to find initial dependencies, then on read after dependency change.
+ * Values read by supplier are not disposed together with computed value.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class GetComputedValue<T> extends AbstractGetValue<T> {
+    private static final AbstractGetValue<?>[] NO_DEPENDENCIES = new AbstractGetValue<?>[0];
+
+    protected Supplier<? extends T> supplier;
+
+    protected final ValueChangeListener<Object> dependencyListener = new DependencyListener<>(this);
+    protected Getter<?> lastGetter;
+
+    private final DependencyTracker tracker = new DependencyTracker();
+    private AbstractGetValue<?>[] dependencies = NO_DEPENDENCIES;
+    private int dependencyCount = 0;
+
+    private T result;
+    private boolean calculated = false;
+
+    public GetComputedValue(Supplier<? extends T> supplier) {
+        this.supplier = notNull(supplier);
+        calculate();
+    }
+
+    /**
+     * @return count of values read by the last evaluation
+     */
+    public int getDependencyCount() {
+        return dependencyCount;
+    }
+
+    @Override
+    protected void dependencyChanged(Getter<?> getter) {
+        lastGetter = getter;
+    }
+
+    @Override
+    public boolean isValueValid() {
+        if (supplier == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        calculate();
+        for (int i = 0; i < dependencyCount; i++) {
+            if (!dependencies[i].isValueValid()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Object getMetaInfo(String key) {
+        if (supplier == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        return lastGetter == null ? null : lastGetter.getMetaInfo(key);
+    }
+
+    @Override
+    public T getValue() {
+        if (supplier == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        DependencyTracker.read(this);
+        calculate();
+        return result;
+    }
+
+    private void calculate() {
+        if (calculated) {
+            return;
+        }
+
+        T value;
+        tracker.start();
+        try {
+            value = supplier.get();
+        } finally {
+            tracker.stop();
+            updateDependencies();
+        }
+
+        result = value;
+        calculated = true;
+    }
+
+    /**
+     * Unsubscribes from values which have not been read by the last evaluation and subscribes to new ones.
+     */
+    private void updateDependencies() {
+        long id = tracker.id();
+        long kept = -id;
+        long added = Long.MIN_VALUE + id;
+        for (int i = 0; i < dependencyCount; i++) {
+            ModeState state = dependencies[i].modes();
+            if (state.trackedBy == id) {
+                // Still read
+                state.trackedBy = kept;
+            } else {
+                dependencies[i].removeChangeListener(dependencyListener);
+            }
+        }
+
+        int count = tracker.size();
+        AbstractGetValue<?>[] newDependencies = count <= dependencies.length ?
+                dependencies : new AbstractGetValue<?>[count];
+        int newCount = 0;
+        for (int i = 0; i < count; i++) {
+            AbstractGetValue<?> dependency = tracker.get(i);
+            ModeState state = dependency.modes;
+            if (state.trackedBy == added) {
+                // Read twice (mark has been overwritten by nested evaluation)
+                continue;
+            }
+
+            if (state.trackedBy != kept) {
+                dependency.addChangeListener(dependencyListener);
+                dependsOn(dependency);
+            }
+            state.trackedBy = added;
+            newDependencies[newCount++] = dependency;
+        }
+
+        if (newCount < dependencyCount) {
+            Arrays.fill(newDependencies, newCount, dependencyCount, null);
+        }
+        dependencies = newDependencies;
+        dependencyCount = newCount;
+        tracker.clear();
+    }
+
+    @Override
+    public void fireValueChanged() {
+        result = null;
+        calculated = false;
+        if (supplier != null) {
+            super.fireValueChanged();
+        }
+    }
+
+    @Override
+    public boolean canDispose() {
+        return !hasListeners();
+    }
+
+    @Override
+    public void dispose() {
+        clearListeners();
+
+        for (int i = 0; i < dependencyCount; i++) {
+            dependencies[i].removeChangeListener(dependencyListener);
+        }
+
+        dependencies = NO_DEPENDENCIES;
+        dependencyCount = 0;
+        supplier = null;
+        lastGetter = null;
+        result = null;
+        calculated = false;
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetDoubleValue;
+
+import java.util.function.DoublePredicate;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class GetDoubleFilteredValue extends AbstractWrapperValue<Double, Double, GetDoubleValue> implements GetDoubleValue {
+    protected DoublePredicate predicate;
+
+    private boolean result = false;
+    private boolean calculated = false;
+
+    public GetDoubleFilteredValue(GetDoubleValue from, DoublePredicate predicate) {
+        super(from);
+        this.predicate = notNull(predicate);
+    }
+
+    @Override
+    public double getDouble() {
+        if (from == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        DependencyTracker tracker = DependencyTracker.enter(this);
+        try {
+            return from.getDouble();
+        } finally {
+            DependencyTracker.exit(tracker);
+        }
+    }
+
+    @Override
+    public boolean isValueValid() {
+        if (from == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        if (!calculated) {
+            result = false;
+            if (super.isValueValid()) {
+                result = predicate.test(getDouble());
+            }
+            calculated = true;
+        }
+
+        return result;
+    }
+
+    @Override
+    public void fireValueChanged() {
+        result = false;
+        calculated = false;
+        super.fireValueChanged();
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        result = false;
+        calculated = false;
+        predicate = null;
+    }
+}
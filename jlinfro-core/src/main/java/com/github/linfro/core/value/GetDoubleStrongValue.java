@@ -0,0 +1,71 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetDoubleValue;
+
+import static com.github.linfro.core.common.ObjectUtil.compareDouble;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class GetDoubleStrongValue extends AbstractWrapperValue<Double, Double, GetDoubleValue> implements GetDoubleValue {
+    protected final double tolerance;
+
+    private boolean curValueValid = false;
+    private double curValue;
+
+    public GetDoubleStrongValue(GetDoubleValue from, double tolerance) {
+        super(from);
+        if (Double.isNaN(tolerance) || Double.isInfinite(tolerance) || (tolerance < 0)) {
+            throw new IllegalArgumentException("Invalid tolerance: " + tolerance);
+        }
+        this.tolerance = tolerance;
+
+        this.curValueValid = this.from.isValueValid();
+        this.curValue = this.curValueValid ? this.from.getDouble() : 0;
+    }
+
+    @Override
+    public boolean isValueValid() {
+        if (from == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        return curValueValid;
+    }
+
+    @Override
+    public double getDouble() {
+        DependencyTracker.read(this);
+        if (from == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        return curValue;
+    }
+
+    @Override
+    public void fireValueChanged() {
+        if (from == null) {
+            return;
+        }
+
+        boolean oldValueValid = curValueValid;
+        double oldValue = curValue;
+
+        curValueValid = from.isValueValid();
+        curValue = curValueValid ? from.getDouble() : 0;
+
+        if ((oldValueValid != curValueValid) || (curValueValid && (compareDouble(oldValue, curValue, tolerance) != 0))) {
+            super.fireValueChanged();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        curValueValid = false;
+        curValue = 0;
+    }
+}
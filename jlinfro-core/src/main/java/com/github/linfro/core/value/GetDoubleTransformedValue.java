@@ -0,0 +1,56 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetDoubleValue;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class GetDoubleTransformedValue extends AbstractWrapperValue<Double, Double, GetDoubleValue> implements GetDoubleValue {
+    protected DoubleUnaryOperator function;
+
+    private double result;
+    private boolean calculated = false;
+
+    public GetDoubleTransformedValue(GetDoubleValue from, DoubleUnaryOperator function) {
+        super(from);
+        this.function = notNull(function);
+    }
+
+    @Override
+    public double getDouble() {
+        if (from == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        DependencyTracker tracker = DependencyTracker.enter(this);
+        try {
+            if (!calculated) {
+                result = function.applyAsDouble(from.getDouble());
+                calculated = true;
+            }
+
+            return result;
+        } finally {
+            DependencyTracker.exit(tracker);
+        }
+    }
+
+    @Override
+    public void fireValueChanged() {
+        calculated = false;
+        super.fireValueChanged();
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        calculated = false;
+        function = null;
+    }
+}
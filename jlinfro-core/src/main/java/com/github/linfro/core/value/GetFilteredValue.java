@@ -9,10 +9,10 @@ import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-02-06
+ * @version 2026-10-18
  * @since 1.0.0
  */
-public class GetFilteredValue<T> extends AbstractWrapperValue<T, T, GetValue<T>> implements GetValue<T> {
+public class GetFilteredValue<T> extends AbstractFusableValue<T, T> implements GetValue<T> {
     protected Predicate<? super T> predicate;
 
     private boolean result = false;
@@ -23,13 +23,23 @@ public class GetFilteredValue<T> extends AbstractWrapperValue<T, T, GetValue<T>>
         this.predicate = notNull(predicate);
     }
 
+    @Override
+    protected Object[] getStages() {
+        return new Object[]{new GetFusedValue.Filter(predicate)};
+    }
+
     @Override
     public T getValue() {
         if (from == null) {
             throw new IllegalStateException("Value is disposed");
         }
 
-        return from.getValue();
+        DependencyTracker tracker = DependencyTracker.enter(this);
+        try {
+            return from.getValue();
+        } finally {
+            DependencyTracker.exit(tracker);
+        }
     }
 
     @Override
@@ -43,7 +53,7 @@ public class GetFilteredValue<T> extends AbstractWrapperValue<T, T, GetValue<T>>
             if (super.isValueValid()) {
                 result = predicate.test(getValue());
             }
-            calculated = true;
+            calculated = isAttached();
         }
 
         return result;
@@ -57,8 +67,7 @@ public class GetFilteredValue<T> extends AbstractWrapperValue<T, T, GetValue<T>>
     }
 
     @Override
-    public void dispose() {
-        super.dispose();
+    protected void releaseState() {
         result = false;
         calculated = false;
         predicate = null;
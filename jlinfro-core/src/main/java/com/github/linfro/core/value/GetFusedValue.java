@@ -0,0 +1,246 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetValue;
+import com.github.linfro.core.common.Equality;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * Fused chain of map/filter operators with optional strong check at the end.
+ * Pipeline stages are functions and filters applied to the source value in order, so the whole chain has single
+ * listener on the source, single cached result and single dispatch level.
+ * <p>
+ * Semantics is the same as for the chain of {@link GetTransformedValue}, {@link GetFilteredValue} and
+ * {@link GetStrongValue}: value is valid if source is valid and all filters accept; filter is not tested if some
+ * previous filter has rejected; functions are applied lazily on {@link #getValue()}.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class GetFusedValue<F, T> extends AbstractFusableValue<F, T> {
+    protected Object[] stages;
+    protected Equality<? super T> equality;
+
+    /**
+     * Count of stages to be run for validity check (index of the last filter + 1).
+     */
+    private int validityLength;
+
+    private boolean valid = false;
+    private boolean validCalculated = false;
+    private T result;
+    private boolean calculated = false;
+
+    // Intermediate value which has been calculated by validity check
+    private Object prefixValue;
+    private int prefixLength = 0;
+
+    GetFusedValue(GetValue<F> from, Object[] stages, Equality<? super T> equality) {
+        super(from);
+        this.stages = notNull(stages);
+        this.equality = equality;
+        this.validityLength = validityLength(stages);
+
+        if (equality != null) {
+            calculate();
+        }
+    }
+
+    private static int validityLength(Object[] stages) {
+        int length = 0;
+        for (int i = 0; i < stages.length; i++) {
+            if (stages[i] instanceof Filter) {
+                length = i + 1;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Called when absorbed value is attached back: this value listens to it instead of the source and drops its
+     * stages. If this value is absorbed too, its owner is unfused first, while stages of this value are intact.
+     */
+    @SuppressWarnings("unchecked")
+    void unfuse() {
+        AbstractFusableValue<?, ?> value = absorbed;
+        int count = value.getStages().length;
+        if (isFused()) {
+            owner.unfuse();
+        }
+
+        if (attached) {
+            from.removeChangeListener(fromListener);
+        }
+        from = (GetValue<F>) (GetValue<?>) value;
+        dependsOn(from);
+
+        stages = Arrays.copyOfRange(stages, count, stages.length);
+        validityLength = validityLength(stages);
+        if (equality != null) {
+            calculate();
+        } else {
+            resetCache();
+        }
+
+        if (attached) {
+            from.addChangeListener(fromListener);
+        }
+    }
+
+    @Override
+    protected Object[] getStages() {
+        return stages;
+    }
+
+    @Override
+    protected boolean canFuse() {
+        return (equality == null) && super.canFuse();
+    }
+
+    @Override
+    public boolean isValueValid() {
+        if (from == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        if (!validCalculated) {
+            valid = calculateValid();
+            validCalculated = isAttached() || (equality != null);
+        }
+
+        return valid;
+    }
+
+    @Override
+    public T getValue() {
+        if (from == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        DependencyTracker tracker = DependencyTracker.enter(this);
+        try {
+            if (!calculated) {
+                result = calculateValue();
+                calculated = isAttached() || (equality != null);
+            }
+
+            return result;
+        } finally {
+            DependencyTracker.exit(tracker);
+        }
+    }
+
+    private boolean calculateValid() {
+        if (!from.isValueValid()) {
+            return false;
+        }
+
+        if (validityLength == 0) {
+            return true;
+        }
+
+        Object value = from.getValue();
+        for (int i = 0; i < validityLength; i++) {
+            Object stage = stages[i];
+            if (stage instanceof Filter) {
+                if (!((Filter) stage).test(value)) {
+                    return false;
+                }
+            } else {
+                value = apply(stage, value);
+            }
+        }
+
+        if (isAttached()) {
+            prefixValue = value;
+            prefixLength = validityLength;
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T calculateValue() {
+        int start = prefixLength;
+        Object value = start > 0 ? prefixValue : from.getValue();
+        for (int i = start; i < stages.length; i++) {
+            Object stage = stages[i];
+            if (!(stage instanceof Filter)) {
+                value = apply(stage, value);
+            }
+        }
+
+        return (T) value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object apply(Object function, Object value) {
+        return ((Function<Object, Object>) function).apply(value);
+    }
+
+    private void calculate() {
+        valid = calculateValid();
+        result = valid ? calculateValue() : null;
+        validCalculated = true;
+        calculated = true;
+        prefixValue = null;
+        prefixLength = 0;
+    }
+
+    @Override
+    public void fireValueChanged() {
+        if ((from == null) || (stages == null)) {
+            return;
+        }
+
+        if (equality == null) {
+            resetCache();
+            super.fireValueChanged();
+            return;
+        }
+
+        boolean oldValid = valid;
+        T oldResult = result;
+        calculate();
+
+        if ((oldValid != valid) || (valid && !equality.areEquals(oldResult, result))) {
+            super.fireValueChanged();
+        }
+    }
+
+    private void resetCache() {
+        valid = false;
+        validCalculated = false;
+        result = null;
+        calculated = false;
+        prefixValue = null;
+        prefixLength = 0;
+    }
+
+    @Override
+    protected void releaseState() {
+        resetCache();
+        stages = null;
+        equality = null;
+    }
+
+    /**
+     * Filter stage of the pipeline.
+     */
+    static final class Filter {
+        private final Predicate<Object> predicate;
+
+        @SuppressWarnings("unchecked")
+        Filter(Predicate<?> predicate) {
+            this.predicate = (Predicate<Object>) notNull(predicate);
+        }
+
+        boolean test(Object value) {
+            return predicate.test(value);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetIntValue;
+
+import java.util.function.IntPredicate;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class GetIntFilteredValue extends AbstractWrapperValue<Integer, Integer, GetIntValue> implements GetIntValue {
+    protected IntPredicate predicate;
+
+    private boolean result = false;
+    private boolean calculated = false;
+
+    public GetIntFilteredValue(GetIntValue from, IntPredicate predicate) {
+        super(from);
+        this.predicate = notNull(predicate);
+    }
+
+    @Override
+    public int getInt() {
+        if (from == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        DependencyTracker tracker = DependencyTracker.enter(this);
+        try {
+            return from.getInt();
+        } finally {
+            DependencyTracker.exit(tracker);
+        }
+    }
+
+    @Override
+    public boolean isValueValid() {
+        if (from == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        if (!calculated) {
+            result = false;
+            if (super.isValueValid()) {
+                result = predicate.test(getInt());
+            }
+            calculated = true;
+        }
+
+        return result;
+    }
+
+    @Override
+    public void fireValueChanged() {
+        result = false;
+        calculated = false;
+        super.fireValueChanged();
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        result = false;
+        calculated = false;
+        predicate = null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetIntValue;
+
+import java.util.function.IntUnaryOperator;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class GetIntTransformedValue extends AbstractWrapperValue<Integer, Integer, GetIntValue> implements GetIntValue {
+    protected IntUnaryOperator function;
+
+    private int result;
+    private boolean calculated = false;
+
+    public GetIntTransformedValue(GetIntValue from, IntUnaryOperator function) {
+        super(from);
+        this.function = notNull(function);
+    }
+
+    @Override
+    public int getInt() {
+        if (from == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        DependencyTracker tracker = DependencyTracker.enter(this);
+        try {
+            if (!calculated) {
+                result = function.applyAsInt(from.getInt());
+                calculated = true;
+            }
+
+            return result;
+        } finally {
+            DependencyTracker.exit(tracker);
+        }
+    }
+
+    @Override
+    public void fireValueChanged() {
+        calculated = false;
+        super.fireValueChanged();
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        calculated = false;
+        function = null;
+    }
+}
@@ -11,7 +11,7 @@ import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-06-12
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class GetJoin2Value<F1, F2, T> extends AbstractGetValue<T> {
@@ -19,13 +19,7 @@ public class GetJoin2Value<F1, F2, T> extends AbstractGetValue<T> {
     protected GetValue<? extends F2> arg1;
     protected BiFunction<F1, F2, T> function;
 
-    protected final ValueChangeListener<Object> argListener = new ValueChangeListener<Object>() {
-        @Override
-        public void valueChanged(Getter<?> getter) {
-            lastGetter = getter;
-            fireValueChanged();
-        }
-    };
+    protected final ValueChangeListener<Object> argListener = new DependencyListener<>(this);
     protected Getter<?> lastGetter;
 
     private T result;
@@ -41,6 +35,13 @@ public class GetJoin2Value<F1, F2, T> extends AbstractGetValue<T> {
         this.lastGetter = this.arg0;
         this.arg0.addChangeListener(argListener);
         this.arg1.addChangeListener(argListener);
+        dependsOn(this.arg0);
+        dependsOn(this.arg1);
+    }
+
+    @Override
+    protected void dependencyChanged(Getter<?> getter) {
+        lastGetter = getter;
     }
 
     @Override
@@ -67,12 +68,17 @@ public class GetJoin2Value<F1, F2, T> extends AbstractGetValue<T> {
             throw new IllegalStateException("Value is disposed");
         }
 
-        if (!calculated) {
-            result = function.apply(arg0.getValue(), arg1.getValue());
-            calculated = true;
-        }
+        DependencyTracker tracker = DependencyTracker.enter(this);
+        try {
+            if (!calculated) {
+                result = function.apply(arg0.getValue(), arg1.getValue());
+                calculated = true;
+            }
 
-        return result;
+            return result;
+        } finally {
+            DependencyTracker.exit(tracker);
+        }
     }
 
     @Override
@@ -86,12 +92,12 @@ public class GetJoin2Value<F1, F2, T> extends AbstractGetValue<T> {
 
     @Override
     public boolean canDispose() {
-        return listeners.isEmpty();
+        return !hasListeners();
     }
 
     @Override
     public void dispose() {
-        listeners.clear();
+        clearListeners();
 
         disposeArg(arg0);
         disposeArg(arg1);
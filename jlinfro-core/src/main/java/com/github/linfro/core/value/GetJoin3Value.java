@@ -0,0 +1,128 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetValue;
+import com.github.linfro.core.Getter;
+import com.github.linfro.core.ValueChangeListener;
+import com.github.linfro.core.common.Function3;
+import com.github.linfro.core.dsl.GetValueHolder;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class GetJoin3Value<F1, F2, F3, T> extends AbstractGetValue<T> {
+    protected GetValue<? extends F1> arg0;
+    protected GetValue<? extends F2> arg1;
+    protected GetValue<? extends F3> arg2;
+    protected Function3<F1, F2, F3, T> function;
+
+    protected final ValueChangeListener<Object> argListener = new DependencyListener<>(this);
+    protected Getter<?> lastGetter;
+
+    private T result;
+    private boolean calculated = false;
+
+    public GetJoin3Value(GetValueHolder<? extends F1> arg0,
+                         GetValueHolder<? extends F2> arg1,
+                         GetValueHolder<? extends F3> arg2,
+                         Function3<F1, F2, F3, T> function) {
+        this.arg0 = notNull(notNull(arg0).getContentValue());
+        this.arg1 = notNull(notNull(arg1).getContentValue());
+        this.arg2 = notNull(notNull(arg2).getContentValue());
+        this.function = notNull(function);
+
+        this.lastGetter = this.arg0;
+        this.arg0.addChangeListener(argListener);
+        this.arg1.addChangeListener(argListener);
+        this.arg2.addChangeListener(argListener);
+        dependsOn(this.arg0);
+        dependsOn(this.arg1);
+        dependsOn(this.arg2);
+    }
+
+    @Override
+    protected void dependencyChanged(Getter<?> getter) {
+        lastGetter = getter;
+    }
+
+    @Override
+    public boolean isValueValid() {
+        if (function == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        return arg0.isValueValid() && arg1.isValueValid() && arg2.isValueValid();
+    }
+
+    @Override
+    public Object getMetaInfo(String key) {
+        if (function == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        return lastGetter == null ? null : lastGetter.getMetaInfo(key);
+    }
+
+    @Override
+    public T getValue() {
+        if (function == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        DependencyTracker tracker = DependencyTracker.enter(this);
+        try {
+            if (!calculated) {
+                result = function.apply(arg0.getValue(), arg1.getValue(), arg2.getValue());
+                calculated = true;
+            }
+
+            return result;
+        } finally {
+            DependencyTracker.exit(tracker);
+        }
+    }
+
+    @Override
+    public void fireValueChanged() {
+        result = null;
+        calculated = false;
+        if (function != null) {
+            super.fireValueChanged();
+        }
+    }
+
+    @Override
+    public boolean canDispose() {
+        return !hasListeners();
+    }
+
+    @Override
+    public void dispose() {
+        clearListeners();
+
+        disposeArg(arg0);
+        disposeArg(arg1);
+        disposeArg(arg2);
+
+        arg0 = null;
+        arg1 = null;
+        arg2 = null;
+
+        function = null;
+        lastGetter = null;
+        result = null;
+        calculated = false;
+    }
+
+    private void disposeArg(GetValue<?> arg) {
+        if (arg != null) {
+            arg.removeChangeListener(argListener);
+            if (arg.canDispose()) {
+                arg.dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetLongValue;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class GetLongStrongValue extends AbstractWrapperValue<Long, Long, GetLongValue> implements GetLongValue {
+    private boolean curValueValid = false;
+    private long curValue;
+
+    public GetLongStrongValue(GetLongValue from) {
+        super(from);
+
+        this.curValueValid = this.from.isValueValid();
+        this.curValue = this.curValueValid ? this.from.getLong() : 0;
+    }
+
+    @Override
+    public boolean isValueValid() {
+        if (from == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        return curValueValid;
+    }
+
+    @Override
+    public long getLong() {
+        DependencyTracker.read(this);
+        if (from == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        return curValue;
+    }
+
+    @Override
+    public void fireValueChanged() {
+        if (from == null) {
+            return;
+        }
+
+        boolean oldValueValid = curValueValid;
+        long oldValue = curValue;
+
+        curValueValid = from.isValueValid();
+        curValue = curValueValid ? from.getLong() : 0;
+
+        if ((oldValueValid != curValueValid) || (curValueValid && (oldValue != curValue))) {
+            super.fireValueChanged();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        curValueValid = false;
+        curValue = 0;
+    }
+}
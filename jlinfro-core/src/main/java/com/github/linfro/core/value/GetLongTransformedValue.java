@@ -0,0 +1,56 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetLongValue;
+
+import java.util.function.LongUnaryOperator;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class GetLongTransformedValue extends AbstractWrapperValue<Long, Long, GetLongValue> implements GetLongValue {
+    protected LongUnaryOperator function;
+
+    private long result;
+    private boolean calculated = false;
+
+    public GetLongTransformedValue(GetLongValue from, LongUnaryOperator function) {
+        super(from);
+        this.function = notNull(function);
+    }
+
+    @Override
+    public long getLong() {
+        if (from == null) {
+            throw new IllegalStateException("Value is disposed");
+        }
+
+        DependencyTracker tracker = DependencyTracker.enter(this);
+        try {
+            if (!calculated) {
+                result = function.applyAsLong(from.getLong());
+                calculated = true;
+            }
+
+            return result;
+        } finally {
+            DependencyTracker.exit(tracker);
+        }
+    }
+
+    @Override
+    public void fireValueChanged() {
+        calculated = false;
+        super.fireValueChanged();
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        calculated = false;
+        function = null;
+    }
+}
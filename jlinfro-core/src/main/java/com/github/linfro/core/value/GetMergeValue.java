@@ -5,28 +5,33 @@ import com.github.linfro.core.Getter;
 import com.github.linfro.core.ValueChangeListener;
 import com.github.linfro.core.dsl.GetValueHolder;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
 import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
+ * Merge keeps values of arguments in array and refreshes only slots of changed arguments.
+ * Result is immutable map backed by key array, key index table (both shared by all results) and the value array.
+ * Array is copied on write only if the result has been handed out. Results do not reference the merge value,
+ * so kept snapshots do not prevent disposed merge value and its arguments from being collected.
+ *
  * @author Dmitry Ermakov
- * @version 2014-06-07
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class GetMergeValue extends AbstractGetValue<Map<String, Object>> {
     protected final Map<String, GetValue<?>> args = new HashMap<>();
-    protected final ValueChangeListener<Object> argListener = new ValueChangeListener<Object>() {
-        @Override
-        public void valueChanged(Getter<?> getter) {
-            lastGetter = getter;
-            fireValueChanged();
-        }
-    };
+    protected final ValueChangeListener<Object> argListener = new DependencyListener<>(this);
 
     protected Getter<?> lastGetter;
+
+    private final List<GetValue<?>> argList = new ArrayList<>();
+    private Map<String, Integer> keyIndex = new HashMap<>();
+    private String[] keys;
+    private final ArgumentSlots slots;
+    private Object[] values;
     private Map<String, Object> result;
+    private boolean dependencyReported = false;
 
     public GetMergeValue(GetValueHolder firstArg, GetValueHolder secondArg, GetValueHolder... otherArgs) {
         this.lastGetter = addArg(firstArg, 0);
@@ -36,6 +41,13 @@ public class GetMergeValue extends AbstractGetValue<Map<String, Object>> {
                 addArg(otherArgs[i], i + 2);
             }
         }
+
+        this.keys = new String[keyIndex.size()];
+        for (Map.Entry<String, Integer> entry : keyIndex.entrySet()) {
+            keys[entry.getValue()] = entry.getKey();
+        }
+        this.slots = new ArgumentSlots(argList);
+        this.values = new Object[argList.size()];
     }
 
     private GetValue<?> addArg(GetValueHolder arg, int index) {
@@ -47,10 +59,20 @@ public class GetMergeValue extends AbstractGetValue<Map<String, Object>> {
         }
 
         args.put(argKey, value);
+        keyIndex.put(argKey, keyIndex.size());
+        argList.add(value);
         value.addChangeListener(argListener);
+        dependsOn(value);
         return value;
     }
 
+    @Override
+    protected void dependencyChanged(Getter<?> getter) {
+        lastGetter = getter;
+        dependencyReported = true;
+        slots.markChanged(getter);
+    }
+
     protected String getArgKey(Getter<?> getter, int index) {
         String name = notNull(getter).getMetaName();
         return name == null ? "arg" + index : name;
@@ -86,24 +108,50 @@ public class GetMergeValue extends AbstractGetValue<Map<String, Object>> {
             throw new IllegalStateException("Value is disposed");
         }
 
-        if (result == null) {
-            Map<String, Object> res = new HashMap<>();
-            for (Map.Entry<String, GetValue<?>> entry : args.entrySet()) {
-                String key = entry.getKey();
-                GetValue<?> arg = entry.getValue();
+        DependencyTracker tracker = DependencyTracker.enter(this);
+        try {
+            if (slots.isAllDirty()) {
+                Object[] newValues = result == null ? values : new Object[values.length];
+                for (int i = 0; i < newValues.length; i++) {
+                    newValues[i] = argList.get(i).getValue();
+                }
+
+                slots.clean();
+                values = newValues;
+                result = null;
+            } else if (!slots.isClean()) {
+                if (result != null) {
+                    // Result is immutable
+                    values = values.clone();
+                    result = null;
+                }
+
+                for (int i = 0; i < slots.dirtyCount(); i++) {
+                    int slot = slots.dirtySlot(i);
+                    values[slot] = argList.get(slot).getValue();
+                }
+
+                slots.clean();
+            }
 
-                res.put(key, arg.getValue());
+            if (result == null) {
+                result = new MergeResult(keys, keyIndex, values);
             }
 
-            result = res;
+            return result;
+        } finally {
+            DependencyTracker.exit(tracker);
         }
-
-        return result;
     }
 
     @Override
     public void fireValueChanged() {
-        result = null;
+        if (!dependencyReported) {
+            // Changed slots are unknown
+            slots.markAll();
+        }
+        dependencyReported = false;
+
         if (!args.isEmpty()) {
             super.fireValueChanged();
         }
@@ -111,12 +159,12 @@ public class GetMergeValue extends AbstractGetValue<Map<String, Object>> {
 
     @Override
     public boolean canDispose() {
-        return listeners.isEmpty();
+        return !hasListeners();
     }
 
     @Override
     public void dispose() {
-        listeners.clear();
+        clearListeners();
 
         for (GetValue<?> arg : args.values()) {
             arg.removeChangeListener(argListener);
@@ -125,7 +173,77 @@ public class GetMergeValue extends AbstractGetValue<Map<String, Object>> {
             }
         }
         args.clear();
+        argList.clear();
         lastGetter = null;
+        keys = null;
+        keyIndex = null;
+        values = null;
         result = null;
     }
+
+    private static final class MergeResult extends AbstractMap<String, Object> {
+        private final String[] keys;
+        private final Map<String, Integer> keyIndex;
+        private final Object[] values;
+        private Set<Entry<String, Object>> entrySet;
+
+        private MergeResult(String[] keys, Map<String, Integer> keyIndex, Object[] values) {
+            this.keys = keys;
+            this.keyIndex = keyIndex;
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return keyIndex.containsKey(key);
+        }
+
+        @Override
+        public Object get(Object key) {
+            Integer index = keyIndex.get(key);
+            return index == null ? null : values[index];
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            if (entrySet == null) {
+                entrySet = new AbstractSet<Entry<String, Object>>() {
+                    @Override
+                    public Iterator<Entry<String, Object>> iterator() {
+                        return new Iterator<Entry<String, Object>>() {
+                            private int index = 0;
+
+                            @Override
+                            public boolean hasNext() {
+                                return index < values.length;
+                            }
+
+                            @Override
+                            public Entry<String, Object> next() {
+                                if (index >= values.length) {
+                                    throw new NoSuchElementException();
+                                }
+
+                                Entry<String, Object> entry = new SimpleImmutableEntry<>(keys[index], values[index]);
+                                index++;
+                                return entry;
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return values.length;
+                    }
+                };
+            }
+
+            return entrySet;
+        }
+    }
 }
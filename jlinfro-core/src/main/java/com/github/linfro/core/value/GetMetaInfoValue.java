@@ -7,7 +7,7 @@ import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-02-13
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class GetMetaInfoValue<T> extends AbstractWrapperValue<T, T, GetValue<T>> implements GetValue<T> {
@@ -26,7 +26,12 @@ public class GetMetaInfoValue<T> extends AbstractWrapperValue<T, T, GetValue<T>>
             throw new IllegalStateException("Value is disposed");
         }
 
-        return from.getValue();
+        DependencyTracker tracker = DependencyTracker.enter(this);
+        try {
+            return from.getValue();
+        } finally {
+            DependencyTracker.exit(tracker);
+        }
     }
 
     @Override
@@ -0,0 +1,23 @@
+package com.github.linfro.core.value;
+
+/**
+ * True if at least one argument is true.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class GetOrValue extends AbstractBooleanAggregateValue {
+    public GetOrValue() {
+        this(null);
+    }
+
+    public GetOrValue(Boolean initialValue) {
+        super(initialValue);
+    }
+
+    @Override
+    protected boolean aggregate(int trueCount, int count) {
+        return trueCount > 0;
+    }
+}
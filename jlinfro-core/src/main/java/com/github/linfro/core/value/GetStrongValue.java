@@ -8,7 +8,7 @@ import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-03-16
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class GetStrongValue<T> extends AbstractWrapperValue<T, T, GetValue<T>> implements GetValue<T> {
@@ -36,6 +36,7 @@ public class GetStrongValue<T> extends AbstractWrapperValue<T, T, GetValue<T>> i
 
     @Override
     public T getValue() {
+        DependencyTracker.read(this);
         if (from == null) {
             throw new IllegalStateException("Value is disposed");
         }
@@ -9,10 +9,10 @@ import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-05
+ * @version 2026-10-18
  * @since 1.0.0
  */
-public class GetTransformedValue<F, T> extends AbstractWrapperValue<F, T, GetValue<F>> implements GetValue<T> {
+public class GetTransformedValue<F, T> extends AbstractFusableValue<F, T> implements GetValue<T> {
     protected Function<F, T> function;
 
     private T result;
@@ -23,18 +23,28 @@ public class GetTransformedValue<F, T> extends AbstractWrapperValue<F, T, GetVal
         this.function = notNull(function);
     }
 
+    @Override
+    protected Object[] getStages() {
+        return new Object[]{function};
+    }
+
     @Override
     public T getValue() {
         if (from == null) {
             throw new IllegalStateException("Value is disposed");
         }
 
-        if (!calculated) {
-            result = function.apply(from.getValue());
-            calculated = true;
-        }
+        DependencyTracker tracker = DependencyTracker.enter(this);
+        try {
+            if (!calculated) {
+                result = function.apply(from.getValue());
+                calculated = isAttached();
+            }
 
-        return result;
+            return result;
+        } finally {
+            DependencyTracker.exit(tracker);
+        }
     }
 
     @Override
@@ -45,8 +55,7 @@ public class GetTransformedValue<F, T> extends AbstractWrapperValue<F, T, GetVal
     }
 
     @Override
-    public void dispose() {
-        super.dispose();
+    protected void releaseState() {
         result = null;
         calculated = false;
         function = null;
@@ -5,28 +5,32 @@ import com.github.linfro.core.Getter;
 import com.github.linfro.core.ValueChangeListener;
 import com.github.linfro.core.dsl.GetValueHolder;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
 
 import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
+ * Union keeps values of arguments in array and refreshes only slots of changed arguments.
+ * Result is immutable snapshot list backed by the array. Array is copied on write only if the snapshot
+ * has been handed out, so many changes between reads cost O(1) each, and every read costs at most one copy.
+ *
  * @author Dmitry Ermakov
- * @version 2014-02-16
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class GetUnionValue<T> extends AbstractGetValue<List<T>> {
     protected final List<GetValue<? extends T>> args;
-    protected final ValueChangeListener<T> argListener = new ValueChangeListener<T>() {
-        @Override
-        public void valueChanged(Getter<? extends T> getter) {
-            lastGetter = getter;
-            fireValueChanged();
-        }
-    };
+    protected final ValueChangeListener<T> argListener = new DependencyListener<>(this);
 
     protected Getter<? extends T> lastGetter;
+
+    private final ArgumentSlots slots;
+    private Object[] values;
     private List<T> result;
+    private boolean dependencyReported = false;
 
     @SafeVarargs
     public GetUnionValue(GetValueHolder<? extends T> firstArg, GetValueHolder<? extends T>... otherArgs) {
@@ -35,6 +39,7 @@ public class GetUnionValue<T> extends AbstractGetValue<List<T>> {
         this.args = new ArrayList<>(otherArgs == null ? 1 : otherArgs.length + 1);
         this.args.add(firstValue);
         firstValue.addChangeListener(argListener);
+        dependsOn(firstValue);
         this.lastGetter = firstValue;
 
         if (otherArgs != null) {
@@ -42,8 +47,20 @@ public class GetUnionValue<T> extends AbstractGetValue<List<T>> {
                 GetValue<? extends T> nextValue = notNull(notNull(arg).getContentValue());
                 this.args.add(nextValue);
                 nextValue.addChangeListener(argListener);
+                dependsOn(nextValue);
             }
         }
+
+        this.slots = new ArgumentSlots(this.args);
+        this.values = new Object[this.args.size()];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void dependencyChanged(Getter<?> getter) {
+        lastGetter = (Getter<? extends T>) getter;
+        dependencyReported = true;
+        slots.markChanged(getter);
     }
 
     @Override
@@ -76,21 +93,50 @@ public class GetUnionValue<T> extends AbstractGetValue<List<T>> {
             throw new IllegalStateException("Value is disposed");
         }
 
-        if (result == null) {
-            List<T> res = new ArrayList<>(args.size());
-            for (GetValue<? extends T> arg : args) {
-                res.add(arg.getValue());
+        DependencyTracker tracker = DependencyTracker.enter(this);
+        try {
+            if (slots.isAllDirty()) {
+                Object[] newValues = result == null ? values : new Object[values.length];
+                for (int i = 0; i < newValues.length; i++) {
+                    newValues[i] = args.get(i).getValue();
+                }
+
+                slots.clean();
+                values = newValues;
+                result = null;
+            } else if (!slots.isClean()) {
+                if (result != null) {
+                    // Snapshot is immutable
+                    values = values.clone();
+                    result = null;
+                }
+
+                for (int i = 0; i < slots.dirtyCount(); i++) {
+                    int slot = slots.dirtySlot(i);
+                    values[slot] = args.get(slot).getValue();
+                }
+
+                slots.clean();
             }
 
-            result = res;
-        }
+            if (result == null) {
+                result = new Snapshot<>(values);
+            }
 
-        return result;
+            return result;
+        } finally {
+            DependencyTracker.exit(tracker);
+        }
     }
 
     @Override
     public void fireValueChanged() {
-        result = null;
+        if (!dependencyReported) {
+            // Changed slots are unknown
+            slots.markAll();
+        }
+        dependencyReported = false;
+
         if (!args.isEmpty()) {
             super.fireValueChanged();
         }
@@ -98,12 +144,12 @@ public class GetUnionValue<T> extends AbstractGetValue<List<T>> {
 
     @Override
     public boolean canDispose() {
-        return listeners.isEmpty();
+        return !hasListeners();
     }
 
     @Override
     public void dispose() {
-        listeners.clear();
+        clearListeners();
 
         for (GetValue<? extends T> arg : args) {
             arg.removeChangeListener(argListener);
@@ -113,6 +159,26 @@ public class GetUnionValue<T> extends AbstractGetValue<List<T>> {
         }
         args.clear();
         lastGetter = null;
+        values = null;
         result = null;
     }
+
+    private static final class Snapshot<T> extends AbstractList<T> implements RandomAccess {
+        private final Object[] values;
+
+        private Snapshot(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            return (T) values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
 }
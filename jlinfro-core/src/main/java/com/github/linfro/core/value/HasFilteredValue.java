@@ -9,7 +9,7 @@ import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-02-08
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class HasFilteredValue<T> extends AbstractWrapperValue<T, T, HasValue<T>> implements HasValue<T> {
@@ -31,7 +31,12 @@ public class HasFilteredValue<T> extends AbstractWrapperValue<T, T, HasValue<T>>
             throw new IllegalStateException("Value is disposed");
         }
 
-        return from.getValue();
+        DependencyTracker tracker = DependencyTracker.enter(this);
+        try {
+            return from.getValue();
+        } finally {
+            DependencyTracker.exit(tracker);
+        }
     }
 
     @Override
@@ -8,7 +8,7 @@ import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-03-16
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class HasStrongValue<T> extends AbstractWrapperValue<T, T, HasValue<T>> implements HasValue<T> {
@@ -36,6 +36,7 @@ public class HasStrongValue<T> extends AbstractWrapperValue<T, T, HasValue<T>> i
 
     @Override
     public T getValue() {
+        DependencyTracker.read(this);
         if (from == null) {
             throw new IllegalStateException("Value is disposed");
         }
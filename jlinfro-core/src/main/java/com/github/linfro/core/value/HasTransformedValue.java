@@ -9,7 +9,7 @@ import static com.github.linfro.core.common.ObjectUtil.notNull;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-05
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class HasTransformedValue<F, T> extends AbstractWrapperValue<F, T, HasValue<F>> implements HasValue<T> {
@@ -31,12 +31,17 @@ public class HasTransformedValue<F, T> extends AbstractWrapperValue<F, T, HasVal
             throw new IllegalStateException("Value is disposed");
         }
 
-        if (!calculated) {
-            result = outFunc.apply(from.getValue());
-            calculated = true;
-        }
+        DependencyTracker tracker = DependencyTracker.enter(this);
+        try {
+            if (!calculated) {
+                result = outFunc.apply(from.getValue());
+                calculated = true;
+            }
 
-        return result;
+            return result;
+        } finally {
+            DependencyTracker.exit(tracker);
+        }
     }
 
     @Override
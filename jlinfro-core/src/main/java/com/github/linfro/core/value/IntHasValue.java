@@ -0,0 +1,44 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetIntValue;
+
+/**
+ * Null value is stored as 0, like reflection invokers do for primitive properties, so generic links pushing
+ * null do not fail in the middle of propagation.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class IntHasValue extends AbstractHasValue<Integer> implements GetIntValue {
+    protected int value;
+
+    public IntHasValue() {
+    }
+
+    public IntHasValue(int value) {
+        this.value = value;
+    }
+
+    @Override
+    public int getInt() {
+        DependencyTracker.read(this);
+        return value;
+    }
+
+    public void setInt(int value) {
+        this.value = value;
+        fireValueChanged();
+    }
+
+    @Override
+    public Integer getValue() {
+        DependencyTracker.read(this);
+        return value;
+    }
+
+    @Override
+    public void setValue(Integer value) {
+        setInt(value != null ? value : 0);
+    }
+}
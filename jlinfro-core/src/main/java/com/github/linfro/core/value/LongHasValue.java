@@ -0,0 +1,44 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetLongValue;
+
+/**
+ * Null value is stored as 0L, like reflection invokers do for primitive properties, so generic links pushing
+ * null do not fail in the middle of propagation.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class LongHasValue extends AbstractHasValue<Long> implements GetLongValue {
+    protected long value;
+
+    public LongHasValue() {
+    }
+
+    public LongHasValue(long value) {
+        this.value = value;
+    }
+
+    @Override
+    public long getLong() {
+        DependencyTracker.read(this);
+        return value;
+    }
+
+    public void setLong(long value) {
+        this.value = value;
+        fireValueChanged();
+    }
+
+    @Override
+    public Long getValue() {
+        DependencyTracker.read(this);
+        return value;
+    }
+
+    @Override
+    public void setValue(Long value) {
+        setLong(value != null ? value : 0L);
+    }
+}
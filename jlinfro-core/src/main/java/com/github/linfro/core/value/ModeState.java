@@ -0,0 +1,42 @@
+package com.github.linfro.core.value;
+
+/**
+ * State of optional propagation modes of {@link AbstractGetValue}: glitch-free, trampolined, re-entrant and lazy
+ * modes, participation in propagation, batch, compiled graph or dependency recording, and delta listeners.
+ * Value creates its state only when some mode is enabled or used, so plain value keeps only its listeners and
+ * checks single reference on fire event.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+final class ModeState {
+    boolean glitchFree = false;
+    boolean trampolined = false;
+
+    // Re-entrant mode
+    int maxReentrantIterations = 0;
+    boolean refirePending = false;
+    boolean refiring = false;
+    int refireCount = 0;
+
+    // Lazy mode
+    boolean lazy = false;
+    boolean stale = false;
+    AbstractGetValue<?>[] lazyArgs;
+
+    // Glitch-free propagation and batch
+    Propagation scheduledBy;
+    Propagation processedBy;
+    int pending = 0;
+    long firedBy = 0;
+
+    // Dependency recording
+    long trackedBy = 0;
+
+    // Compiled graph
+    CompiledGraph plan;
+    int planIndex;
+
+    DeltaDispatcher<?> deltaDispatcher;
+}
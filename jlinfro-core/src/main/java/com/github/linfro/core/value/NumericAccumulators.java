@@ -0,0 +1,200 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.common.IncrementalAggregator.Accumulator;
+
+/**
+ * Accumulators of built-in numeric and boolean aggregators. Null numeric arguments are ignored.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+final class NumericAccumulators {
+    private NumericAccumulators() {
+    }
+
+    static final class IntSum implements Accumulator<Integer> {
+        private int sum = 0;
+
+        @Override
+        public void add(Integer value) {
+            if (value != null) {
+                sum += value;
+            }
+        }
+
+        @Override
+        public void remove(Integer value) {
+            if (value != null) {
+                sum -= value;
+            }
+        }
+
+        @Override
+        public Integer getResult() {
+            return sum;
+        }
+    }
+
+    static final class LongSum implements Accumulator<Long> {
+        private long sum = 0L;
+
+        @Override
+        public void add(Long value) {
+            if (value != null) {
+                sum += value;
+            }
+        }
+
+        @Override
+        public void remove(Long value) {
+            if (value != null) {
+                sum -= value;
+            }
+        }
+
+        @Override
+        public Long getResult() {
+            return sum;
+        }
+    }
+
+    static final class Count implements Accumulator<Integer> {
+        private int count = 0;
+
+        @Override
+        public void add(Integer value) {
+            if (value != null) {
+                count++;
+            }
+        }
+
+        @Override
+        public void remove(Integer value) {
+            if (value != null) {
+                count--;
+            }
+        }
+
+        @Override
+        public Integer getResult() {
+            return count;
+        }
+    }
+
+    /**
+     * Counts all arguments and true arguments, null is treated as false.
+     */
+    static final class BooleanCount implements Accumulator<Boolean> {
+        private final boolean and;
+        private int count = 0;
+        private int trueCount = 0;
+
+        BooleanCount(boolean and) {
+            this.and = and;
+        }
+
+        @Override
+        public void add(Boolean value) {
+            count++;
+            if ((value != null) && value) {
+                trueCount++;
+            }
+        }
+
+        @Override
+        public void remove(Boolean value) {
+            count--;
+            if ((value != null) && value) {
+                trueCount--;
+            }
+        }
+
+        @Override
+        public Boolean getResult() {
+            return and ? ((count > 0) && (trueCount == count)) : (trueCount > 0);
+        }
+    }
+
+    /**
+     * Non finite values are counted separately, so NaN or infinity does not poison the sum after its removal.
+     * Finite values are summed with Neumaier compensation: removal is addition of negated value, and the lost low
+     * order bits are kept in {@code compensation}, so error does not grow with the number of changes.
+     */
+    static class DoubleSum implements Accumulator<Double> {
+        protected int count = 0;
+        private double sum = 0.0;
+        private double compensation = 0.0;
+        private int nanCount = 0;
+        private int positiveInfinityCount = 0;
+        private int negativeInfinityCount = 0;
+
+        @Override
+        public void add(Double value) {
+            update(value, 1);
+        }
+
+        @Override
+        public void remove(Double value) {
+            update(value, -1);
+        }
+
+        private void update(Double value, int delta) {
+            if (value == null) {
+                return;
+            }
+
+            count += delta;
+            double val = value;
+            if (Double.isNaN(val)) {
+                nanCount += delta;
+            } else if (val == Double.POSITIVE_INFINITY) {
+                positiveInfinityCount += delta;
+            } else if (val == Double.NEGATIVE_INFINITY) {
+                negativeInfinityCount += delta;
+            } else {
+                addFinite(delta > 0 ? val : -val);
+            }
+
+            if (count == 0) {
+                // Drop accumulated rounding error
+                sum = 0.0;
+                compensation = 0.0;
+            }
+        }
+
+        private void addFinite(double val) {
+            double newSum = sum + val;
+            if (Math.abs(sum) >= Math.abs(val)) {
+                compensation += (sum - newSum) + val;
+            } else {
+                compensation += (val - newSum) + sum;
+            }
+            sum = newSum;
+        }
+
+        protected double sum() {
+            if ((nanCount > 0) || ((positiveInfinityCount > 0) && (negativeInfinityCount > 0))) {
+                return Double.NaN;
+            } else if (positiveInfinityCount > 0) {
+                return Double.POSITIVE_INFINITY;
+            } else if (negativeInfinityCount > 0) {
+                return Double.NEGATIVE_INFINITY;
+            }
+
+            return sum + compensation;
+        }
+
+        @Override
+        public Double getResult() {
+            return sum();
+        }
+    }
+
+    static final class DoubleAverage extends DoubleSum {
+        @Override
+        public Double getResult() {
+            return count == 0 ? null : sum() / count;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.ValueChangeListener;
+
+import java.util.Arrays;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * Glitch-free propagation of changes.
+ * Dependent values are not fired recursively but scheduled in priority queue ordered by rank
+ * (length of the longest dependency path from source). Every scheduled value is fired exactly once
+ * and only after all its changed dependencies are fired, so diamond-shaped graphs never observe
+ * half updated state. Ties are resolved in scheduling order.
+ * <p>
+ * While propagation is active, values fired by the same thread (e.g. link targets) join the propagation instead of
+ * immediate notification. Value that has been already fired by the propagation is notified immediately
+ * (as nested change), so call loops are still broken by link locks.
+ * <p>
+ * Tasks registered by {@link #runAfter(Runnable)} are run when propagation ends. Links use them to keep their locks
+ * while the change of link target is being propagated.
+ * <p>
+ * Batch is propagation which collects fired values up to the batch end.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+final class Propagation {
+    /**
+     * Value must be recalculated and fired (its argument has changed).
+     */
+    static final int CHANGED = 1;
+
+    /**
+     * Value has been already fired, only its listeners must be notified.
+     */
+    static final int FIRED = 2;
+
+    private AbstractGetValue<?>[] queue = new AbstractGetValue<?>[16];
+    private long[] keys = new long[16];
+    private int size = 0;
+    private int sequence = 0;
+
+    private Runnable[] tasks = new Runnable[4];
+    private int taskCount = 0;
+
+    private final ThreadContext context;
+    private long id;
+    private boolean busy = false;
+    private Propagation previous;
+
+    private Propagation(ThreadContext context) {
+        this.context = context;
+    }
+
+    static Propagation current() {
+        return ThreadContext.get().propagation;
+    }
+
+    static Propagation open() {
+        ThreadContext context = ThreadContext.get();
+        Propagation propagation = context.idlePropagation;
+        if (propagation == null) {
+            propagation = new Propagation(context);
+            context.idlePropagation = propagation;
+        } else if (propagation.busy) {
+            // Nested propagation
+            propagation = new Propagation(context);
+        }
+
+        propagation.busy = true;
+        propagation.id = context.nextId();
+        propagation.previous = context.propagation;
+        context.propagation = propagation;
+        return propagation;
+    }
+
+    void close() {
+        try {
+            // Tasks must be run even if propagation has failed, otherwise link locks are never released
+            clear();
+            runTasks();
+        } finally {
+            context.propagation = previous;
+
+            clear();
+            while (taskCount > 0) {
+                tasks[--taskCount] = null;
+            }
+            previous = null;
+            sequence = 0;
+            busy = false;
+        }
+    }
+
+    static void batch(Runnable action) {
+        notNull(action);
+
+        if (current() != null) {
+            // Changes are collected by the outer batch or propagation
+            action.run();
+            return;
+        }
+
+        Propagation batch = open();
+        Throwable failure = null;
+        try {
+            action.run();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            // Values changed before failure keep their new state, so listeners must be notified anyway
+            try {
+                batch.finish();
+            } catch (RuntimeException | Error e) {
+                if (failure == null) {
+                    throw e;
+                }
+                failure.addSuppressed(e);
+            } finally {
+                batch.close();
+            }
+        }
+    }
+
+    /**
+     * Runs task when active propagation of current thread ends. Without active propagation task is passed to
+     * trampoline (see {@link Trampoline#runAfter(Runnable)}).
+     */
+    static void runAfter(Runnable task) {
+        notNull(task);
+
+        Propagation propagation = current();
+        if (propagation == null) {
+            Trampoline.runAfter(task);
+            return;
+        }
+
+        if (propagation.taskCount == propagation.tasks.length) {
+            propagation.tasks = Arrays.copyOf(propagation.tasks, propagation.taskCount * 2);
+        }
+        propagation.tasks[propagation.taskCount++] = task;
+    }
+
+    boolean isFired(AbstractGetValue<?> value) {
+        ModeState state = value.modes;
+        return (state != null) && (state.firedBy == id);
+    }
+
+    /**
+     * Passes change of the value to its listeners: dependent values are scheduled, other listeners are notified
+     * immediately.
+     */
+    <T> void dispatch(AbstractGetValue<T> value, ValueChangeListener<? super T>[] listeners) {
+        value.modes().firedBy = id;
+        for (ValueChangeListener<? super T> listener : listeners) {
+            if (listener instanceof DependencyListener) {
+                AbstractGetValue<?> owner = ((DependencyListener<?>) listener).getOwner();
+                owner.dependencyChanged(value);
+                schedule(owner, CHANGED);
+            } else {
+                listener.valueChanged(value);
+            }
+        }
+    }
+
+    void schedule(AbstractGetValue<?> value, int reason) {
+        ModeState state = value.modes();
+        state.pending |= reason;
+        if (state.scheduledBy == this) {
+            return;
+        }
+
+        state.scheduledBy = this;
+        offer(value, ((long) value.getRank() << 32) | (sequence++ & 0xFFFFFFFFL));
+    }
+
+    /**
+     * Runs scheduled values and then registered tasks, until both are exhausted.
+     */
+    void finish() {
+        while ((size > 0) || (taskCount > 0)) {
+            run();
+            runTasks();
+        }
+    }
+
+    private void runTasks() {
+        while (taskCount > 0) {
+            Runnable task = tasks[--taskCount];
+            tasks[taskCount] = null;
+            task.run();
+        }
+    }
+
+    private void run() {
+        try {
+            while (size > 0) {
+                AbstractGetValue<?> value = poll();
+                ModeState state = value.modes;
+                if (state.scheduledBy != this) {
+                    // Already fired by nested propagation
+                    continue;
+                }
+
+                int reason = state.pending;
+                state.pending = 0;
+                state.scheduledBy = null;
+                state.processedBy = this;
+                try {
+                    if ((reason & CHANGED) != 0) {
+                        value.fireValueChanged();
+                    } else {
+                        value.fireScheduled();
+                    }
+                } finally {
+                    state.processedBy = null;
+                }
+            }
+        } finally {
+            clear();
+        }
+    }
+
+    private void clear() {
+        for (int i = 0; i < size; i++) {
+            ModeState state = queue[i].modes;
+            if (state.scheduledBy == this) {
+                state.scheduledBy = null;
+                state.pending = 0;
+            }
+            queue[i] = null;
+        }
+        size = 0;
+    }
+
+    // Binary min-heap
+
+    private void offer(AbstractGetValue<?> value, long key) {
+        if (size == queue.length) {
+            queue = Arrays.copyOf(queue, size * 2);
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            queue[i] = queue[parent];
+            keys[i] = keys[parent];
+            i = parent;
+        }
+        queue[i] = value;
+        keys[i] = key;
+    }
+
+    private AbstractGetValue<?> poll() {
+        AbstractGetValue<?> result = queue[0];
+        int last = --size;
+        AbstractGetValue<?> value = queue[last];
+        long key = keys[last];
+        queue[last] = null;
+
+        if (last > 0) {
+            int i = 0;
+            int half = last >>> 1;
+            while (i < half) {
+                int child = (i << 1) + 1;
+                int right = child + 1;
+                if ((right < last) && (keys[right] < keys[child])) {
+                    child = right;
+                }
+                if (key <= keys[child]) {
+                    break;
+                }
+                queue[i] = queue[child];
+                keys[i] = keys[child];
+                i = child;
+            }
+            queue[i] = value;
+            keys[i] = key;
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,207 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetAggregateValue;
+import com.github.linfro.core.HasValue;
+import com.github.linfro.core.common.AssociativeAggregator;
+import com.github.linfro.core.common.ObjectUtil;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.github.linfro.core.common.ObjectUtil.notNull;
+
+/**
+ * Aggregate value backed by segment tree. Every argument occupies a slot (leaf of the tree), and argument change
+ * recombines only the path from its leaf to the root, so aggregation is updated in O(log n).
+ * Slots of disposed arguments are reused by new arguments. Aggregation order (and iteration order) is slot order,
+ * which equals argument creation order until some argument is disposed.
+ * <p>
+ * Change is fired only if aggregation result has changed.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class SegmentTreeAggregateValue<T> extends AbstractGetValue<T> implements GetAggregateValue<T> {
+    private static final int INITIAL_CAPACITY = 8;
+
+    protected final AssociativeAggregator<T> aggregator;
+    protected T initialValue;
+
+    /**
+     * Tree nodes: root is {@code tree[1]}, leaves are {@code tree[capacity + slot]}.
+     */
+    private Object[] tree;
+    private Argument[] slots;
+    private int capacity;
+    private int size = 0;
+
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeCount = 0;
+
+    public SegmentTreeAggregateValue(AssociativeAggregator<T> aggregator) {
+        this(aggregator, null);
+    }
+
+    public SegmentTreeAggregateValue(AssociativeAggregator<T> aggregator, T initialValue) {
+        this.aggregator = notNull(aggregator);
+        this.initialValue = initialValue;
+
+        this.capacity = INITIAL_CAPACITY;
+        this.tree = new Object[capacity * 2];
+        this.slots = newSlots(capacity);
+        Arrays.fill(tree, aggregator.identity());
+    }
+
+    /**
+     * Array of inner class of generic class cannot be created directly.
+     */
+    @SuppressWarnings("unchecked")
+    private Argument[] newSlots(int length) {
+        return (Argument[]) new SegmentTreeAggregateValue<?>.Argument[length];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getValue() {
+        DependencyTracker.read(this);
+        return (T) tree[1];
+    }
+
+    public int getArgumentCount() {
+        return size - freeCount;
+    }
+
+    @Override
+    public HasValue<T> newArgument() {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (size == capacity) {
+                grow();
+            }
+            slot = size++;
+        }
+
+        Argument member = new Argument(slot, getInitialValue());
+        slots[slot] = member;
+        update(slot, member.value);
+
+        return member;
+    }
+
+    protected T getInitialValue() {
+        return initialValue;
+    }
+
+    private void grow() {
+        Object[] oldTree = tree;
+        int oldCapacity = capacity;
+
+        capacity = oldCapacity * 2;
+        tree = new Object[capacity * 2];
+        Arrays.fill(tree, aggregator.identity());
+        System.arraycopy(oldTree, oldCapacity, tree, capacity, oldCapacity);
+        slots = Arrays.copyOf(slots, capacity);
+
+        for (int i = capacity - 1; i > 0; i--) {
+            tree[i] = combine(i);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object combine(int node) {
+        return aggregator.combine((T) tree[node << 1], (T) tree[(node << 1) + 1]);
+    }
+
+    private void update(int slot, T value) {
+        Object oldResult = tree[1];
+
+        int node = capacity + slot;
+        tree[node] = value;
+        for (node >>>= 1; node > 0; node >>>= 1) {
+            tree[node] = combine(node);
+        }
+
+        if (!ObjectUtil.eq(oldResult, tree[1])) {
+            fireValueChanged();
+        }
+    }
+
+    private void free(int slot) {
+        slots[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+
+        update(slot, aggregator.identity());
+    }
+
+    private class Argument extends AbstractHasValue<T> {
+        private final int slot;
+        private T value;
+        private boolean disposed = false;
+
+        private Argument(int slot, T value) {
+            this.slot = slot;
+            this.value = value;
+        }
+
+        @Override
+        public T getValue() {
+            DependencyTracker.read(this);
+            return value;
+        }
+
+        @Override
+        public void setValue(T value) {
+            this.value = value;
+            if (!disposed) {
+                update(slot, value);
+            }
+            super.fireValueChanged();
+        }
+
+        @Override
+        public void dispose() {
+            if (!disposed) {
+                disposed = true;
+                free(slot);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int slot = nextSlot(0);
+
+            private int nextSlot(int from) {
+                int i = from;
+                while ((i < size) && (slots[i] == null)) {
+                    i++;
+                }
+                return i;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return slot < size;
+            }
+
+            @Override
+            public T next() {
+                if (slot >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                T value = slots[slot].value;
+                slot = nextSlot(slot + 1);
+                return value;
+            }
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.linfro.core.value;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Propagation state of a thread: active glitch-free propagation or batch ({@link Propagation}), active trampoline
+ * ({@link Trampoline}) and active dependency recording ({@link DependencyTracker}), together with idle instances
+ * reused by the next propagation.
+ * <p>
+ * All state is kept in single thread local object, so fire event and read of a value cost one thread local lookup,
+ * and threads never share (and contend on) any counter. Ids which mark values fired or read by propagation are
+ * unique across threads: every thread takes them from the shared generator by blocks of {@value #ID_BLOCK}.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+final class ThreadContext {
+    private static final int ID_BLOCK = 1024;
+    private static final AtomicLong ID_GENERATOR = new AtomicLong();
+
+    private static final ThreadLocal<ThreadContext> CONTEXT = ThreadLocal.withInitial(ThreadContext::new);
+
+    Propagation propagation;
+    Propagation idlePropagation;
+
+    Trampoline trampoline;
+    Trampoline idleTrampoline;
+
+    DependencyTracker tracker;
+
+    private long lastId = 0;
+    private long idLimit = 0;
+
+    private ThreadContext() {
+    }
+
+    static ThreadContext get() {
+        return CONTEXT.get();
+    }
+
+    /**
+     * @return id unique across all threads, never 0
+     */
+    long nextId() {
+        if (lastId == idLimit) {
+            lastId = ID_GENERATOR.getAndAdd(ID_BLOCK);
+            idLimit = lastId + ID_BLOCK;
+        }
+        return ++lastId;
+    }
+}
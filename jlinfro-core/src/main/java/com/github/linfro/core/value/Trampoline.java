@@ -0,0 +1,213 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.ValueChangeListener;
+
+import java.util.Arrays;
+
+/**
+ * Iterative depth-first propagation of changes.
+ * Instead of recursive notification every fired value pushes frame (value, listener snapshot, next listener) onto
+ * explicit stack, and single loop owned by the originating fire event notifies listeners of the top frame.
+ * Stack depth does not depend on the length of the chain.
+ * <p>
+ * Notification of the fired value is deferred up to the end of the current listener: values fired by the listener
+ * are notified after it returns, in the order they have been fired, and before the next listener of the same value.
+ * So the order is the same as by recursive propagation when listener fires values as its last action (e.g. links),
+ * but code following the fire inside of listener runs before listeners of the fired value. Value fired twice by
+ * the same listener is notified twice, both times with its current value.
+ * <p>
+ * Value is marked as firing only while its frame is being notified (from its first listener up to the pop), so
+ * call loops are still detected, and pending frame does not prevent the value from being fired again.
+ * Tasks registered by {@link #runAfter(Runnable)} from a listener are run when the values fired by this listener
+ * have notified their listeners, i.e. at the same moment as after recursive propagation.
+ *
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+final class Trampoline {
+    private AbstractGetValue<?>[] values = new AbstractGetValue<?>[16];
+    private ValueChangeListener<?>[][] snapshots = new ValueChangeListener<?>[16][];
+    private int[] next = new int[16];
+    private int depth = 0;
+
+    /**
+     * Frame which listener is being notified.
+     */
+    private int callingFrame = -1;
+
+    private Runnable[] tasks = new Runnable[4];
+    private int[] taskFrames = new int[4];
+    private int taskCount = 0;
+
+    private Trampoline() {
+    }
+
+    static Trampoline current() {
+        return ThreadContext.get().trampoline;
+    }
+
+    /**
+     * Notifies listeners of the value and of all values fired by them.
+     */
+    static <T> void run(AbstractGetValue<T> value, ValueChangeListener<? super T>[] snapshot) {
+        ThreadContext context = ThreadContext.get();
+        Trampoline trampoline = context.trampoline;
+        if (trampoline != null) {
+            trampoline.push(value, snapshot);
+            return;
+        }
+
+        trampoline = context.idleTrampoline;
+        if (trampoline == null) {
+            trampoline = new Trampoline();
+            context.idleTrampoline = trampoline;
+        }
+
+        context.trampoline = trampoline;
+        Throwable failure = null;
+        try {
+            trampoline.push(value, snapshot);
+            trampoline.loop();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            try {
+                trampoline.unwind(failure);
+            } finally {
+                context.trampoline = null;
+            }
+        }
+    }
+
+    /**
+     * Runs task when values fired by the current listener have notified their listeners, or immediately if there
+     * is no such values.
+     */
+    static void runAfter(Runnable task) {
+        Trampoline trampoline = current();
+        if ((trampoline == null) || (trampoline.depth - 1 <= trampoline.callingFrame)) {
+            task.run();
+            return;
+        }
+
+        if (trampoline.taskCount == trampoline.tasks.length) {
+            trampoline.tasks = Arrays.copyOf(trampoline.tasks, trampoline.taskCount * 2);
+            trampoline.taskFrames = Arrays.copyOf(trampoline.taskFrames, trampoline.taskCount * 2);
+        }
+        trampoline.tasks[trampoline.taskCount] = task;
+        trampoline.taskFrames[trampoline.taskCount] = trampoline.callingFrame + 1;
+        trampoline.taskCount++;
+    }
+
+    <T> void push(AbstractGetValue<T> value, ValueChangeListener<? super T>[] snapshot) {
+        if (depth == values.length) {
+            values = Arrays.copyOf(values, depth * 2);
+            snapshots = Arrays.copyOf(snapshots, depth * 2);
+            next = Arrays.copyOf(next, depth * 2);
+        }
+
+        values[depth] = value;
+        snapshots[depth] = snapshot;
+        next[depth] = 0;
+        depth++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void loop() {
+        while (depth > 0) {
+            int frame = depth - 1;
+            ValueChangeListener<Object>[] snapshot = (ValueChangeListener<Object>[]) snapshots[frame];
+            int i = next[frame];
+            if (i < snapshot.length) {
+                next[frame] = i + 1;
+                callingFrame = frame;
+                if (i == 0) {
+                    values[frame].fireEventInProgress = true;
+                }
+                snapshot[i].valueChanged(values[frame]);
+                if (depth - frame > 2) {
+                    // Frames pushed by the listener are notified in the order they have been fired
+                    reverse(frame + 1, depth - 1);
+                }
+            } else {
+                pop(false);
+            }
+        }
+    }
+
+    private void reverse(int from, int to) {
+        for (; from < to; from++, to--) {
+            AbstractGetValue<?> value = values[from];
+            values[from] = values[to];
+            values[to] = value;
+
+            ValueChangeListener<?>[] snapshot = snapshots[from];
+            snapshots[from] = snapshots[to];
+            snapshots[to] = snapshot;
+
+            int index = next[from];
+            next[from] = next[to];
+            next[to] = index;
+        }
+    }
+
+    private void pop(boolean failed) {
+        int frame = --depth;
+        AbstractGetValue<?> value = values[frame];
+        values[frame] = null;
+        snapshots[frame] = null;
+        callingFrame = frame - 1;
+
+        boolean refired = false;
+        try {
+            if (failed) {
+                value.fireAborted();
+            } else {
+                value.fireFinished();
+                // Value can be fired again (re-entrant mode): then tasks wait for the new frame
+                refired = depth > frame;
+            }
+        } finally {
+            if (!refired) {
+                runTasks(frame);
+            }
+        }
+    }
+
+    private void runTasks(int frame) {
+        while ((taskCount > 0) && (taskFrames[taskCount - 1] >= frame)) {
+            Runnable task = tasks[--taskCount];
+            tasks[taskCount] = null;
+            task.run();
+        }
+    }
+
+    /**
+     * Pops frames left by failed listener. Tasks must be run anyway, otherwise link locks are never released.
+     */
+    private void unwind(Throwable failure) {
+        Throwable unwindFailure = null;
+        while (depth > 0) {
+            try {
+                pop(true);
+            } catch (RuntimeException | Error e) {
+                if (failure != null) {
+                    failure.addSuppressed(e);
+                } else if (unwindFailure == null) {
+                    unwindFailure = e;
+                } else {
+                    unwindFailure.addSuppressed(e);
+                }
+            }
+        }
+        callingFrame = -1;
+
+        if (unwindFailure instanceof RuntimeException) {
+            throw (RuntimeException) unwindFailure;
+        } else if (unwindFailure instanceof Error) {
+            throw (Error) unwindFailure;
+        }
+    }
+}
@@ -1,47 +1,168 @@
 package com.github.linfro.core.value;
 
+import com.github.linfro.core.Getter;
+import com.github.linfro.core.ValueChangeListener;
+import com.github.linfro.core.ValueDeltaListener;
 import com.github.linfro.core.common.Aggregator;
-
-import static com.github.linfro.core.common.ObjectUtil.nvl;
+import com.github.linfro.core.common.AssociativeAggregator;
+import com.github.linfro.core.common.IncrementalAggregator;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-05
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public final class ValueUtil {
-    public static final Aggregator<Boolean> AGGREGATOR_AND = new Aggregator<Boolean>() {
+    /**
+     * True if there is at least one argument and all arguments are true (null is treated as false).
+     * Aggregator is incremental, so aggregate value updates it in O(1) per argument change.
+     */
+    public static final Aggregator<Boolean> AGGREGATOR_AND =
+            (IncrementalAggregator<Boolean>) () -> new NumericAccumulators.BooleanCount(true);
+
+    /**
+     * True if there is at least one true argument. Aggregator is incremental.
+     */
+    public static final Aggregator<Boolean> AGGREGATOR_OR =
+            (IncrementalAggregator<Boolean>) () -> new NumericAccumulators.BooleanCount(false);
+
+    public static final IncrementalAggregator<Integer> AGGREGATOR_SUM_INT = NumericAccumulators.IntSum::new;
+
+    public static final IncrementalAggregator<Long> AGGREGATOR_SUM_LONG = NumericAccumulators.LongSum::new;
+
+    public static final IncrementalAggregator<Double> AGGREGATOR_SUM_DOUBLE = NumericAccumulators.DoubleSum::new;
+
+    /**
+     * Count of non null arguments.
+     */
+    public static final IncrementalAggregator<Integer> AGGREGATOR_COUNT = NumericAccumulators.Count::new;
+
+    /**
+     * Average of non null arguments, or null if there is no such arguments.
+     * <p>
+     * Only double average is provided: aggregator result has the same type as its arguments, so average of integer
+     * or long arguments either loses fraction or does not fit the aggregator contract. Such arguments should be
+     * mapped to double, e.g. {@code intValue.map(Integer::doubleValue).flow().to(average)}.
+     */
+    public static final IncrementalAggregator<Double> AGGREGATOR_AVERAGE_DOUBLE = NumericAccumulators.DoubleAverage::new;
+
+    @SuppressWarnings("rawtypes")
+    private static final AssociativeAggregator AGGREGATOR_MIN = new ComparableAggregator(false);
+
+    @SuppressWarnings("rawtypes")
+    private static final AssociativeAggregator AGGREGATOR_MAX = new ComparableAggregator(true);
+
+    private static final AssociativeAggregator<Object> AGGREGATOR_FIRST_VALID = new AssociativeAggregator<Object>() {
         @Override
-        public Boolean aggregate(Iterable<Boolean> args) {
-            int counter = 0;
-            if (args != null) {
-                for (Boolean val : args) {
-                    counter++;
-                    if (!nvl(val)) {
-                        return Boolean.FALSE;
-                    }
-                }
-            }
+        public Object identity() {
+            return null;
+        }
 
-            return counter == 0 ? Boolean.FALSE : Boolean.TRUE;
+        @Override
+        public Object combine(Object left, Object right) {
+            return left != null ? left : right;
         }
     };
 
-    public static final Aggregator<Boolean> AGGREGATOR_OR = new Aggregator<Boolean>() {
+    private ValueUtil() {
+    }
+
+    /**
+     * Minimum of non null arguments, or null if there is no such arguments.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<? super T>> AssociativeAggregator<T> minAggregator() {
+        return AGGREGATOR_MIN;
+    }
+
+    /**
+     * Maximum of non null arguments, or null if there is no such arguments.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<? super T>> AssociativeAggregator<T> maxAggregator() {
+        return AGGREGATOR_MAX;
+    }
+
+    /**
+     * First non null argument, or null if there is no such arguments.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> AssociativeAggregator<T> firstValidAggregator() {
+        return (AssociativeAggregator<T>) AGGREGATOR_FIRST_VALID;
+    }
+
+    private static final class ComparableAggregator<T extends Comparable<? super T>> implements AssociativeAggregator<T> {
+        private final boolean max;
+
+        private ComparableAggregator(boolean max) {
+            this.max = max;
+        }
+
         @Override
-        public Boolean aggregate(Iterable<Boolean> args) {
-            if (args != null) {
-                for (Boolean val : args) {
-                    if (nvl(val)) {
-                        return Boolean.TRUE;
-                    }
-                }
+        public T identity() {
+            return null;
+        }
+
+        @Override
+        public T combine(T left, T right) {
+            if (left == null) {
+                return right;
+            } else if (right == null) {
+                return left;
             }
 
-            return Boolean.FALSE;
+            int res = left.compareTo(right);
+            return (max ? res >= 0 : res <= 0) ? left : right;
         }
-    };
+    }
 
-    private ValueUtil() {
+    /**
+     * Runs action as batch: values changed inside of the action do not notify listeners immediately.
+     * When the outermost batch ends, every fired value notifies its listeners only once, and changes are propagated
+     * in topological order. Derived values observe new state of their arguments only after the batch end.
+     * If action throws exception, changes made before the exception are still propagated and then the exception
+     * is rethrown.
+     */
+    public static void batch(Runnable action) {
+        Propagation.batch(action);
+    }
+
+    /**
+     * Runs task when glitch-free propagation or batch of current thread ends (i.e. when all postponed changes are
+     * propagated). If there is no such propagation, task is run immediately.
+     */
+    public static void runAfterPropagation(Runnable task) {
+        Propagation.runAfter(task);
+    }
+
+    /**
+     * Must be called by sink before it reads value of the getter. If getter is lazy, the getter and its stale lazy
+     * arguments resume propagation of changes, so the sink is notified about the next change even if the getter
+     * returns cached value without reading its arguments.
+     *
+     * @see AbstractGetValue#setLazy(boolean)
+     */
+    public static void pulled(Getter<?> getter) {
+        if (getter instanceof AbstractGetValue) {
+            ((AbstractGetValue<?>) getter).rearm();
+        }
+    }
+
+    /**
+     * Creates change listener which delivers changes of the getter to the delta listener. Current value of the getter
+     * is remembered as previous value of the first change, so listener must be added right after creation.
+     */
+    public static <T> ValueChangeListener<T> newDeltaListener(Getter<? extends T> getter,
+                                                              ValueDeltaListener<? super T> listener) {
+        return new DeltaListenerAdapter<>(getter, listener, true);
+    }
+
+    /**
+     * Returns change listener equal to the one created by {@link #newDeltaListener} for the same delta listener,
+     * so it can be passed to {@code removeChangeListener}. Value of the getter is not read.
+     */
+    public static <T> ValueChangeListener<T> deltaListenerKey(Getter<? extends T> getter,
+                                                              ValueDeltaListener<? super T> listener) {
+        return new DeltaListenerAdapter<>(getter, listener, false);
     }
 }
@@ -0,0 +1,151 @@
+package com.github.linfro.core;
+
+import com.github.linfro.core.common.Disposable;
+import com.github.linfro.core.value.DefaultHasValue;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class Flow_Async_Test {
+    private static final class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        public void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    @Test
+    public void testConflation() throws Exception {
+        ManualExecutor executor = new ManualExecutor();
+        HasValue<Integer> a = Values.newHasValue(0);
+        List<Integer> log = new ArrayList<>();
+
+        a.flow().async(executor).to(log::add);
+
+        a.setValue(1);
+        a.setValue(2);
+        a.setValue(3);
+        assertEquals(1, executor.tasks.size());
+        assertTrue(log.isEmpty());
+
+        executor.runAll();
+        assertEquals(Arrays.asList(3), log);
+
+        a.setValue(4);
+        executor.runAll();
+        assertEquals(Arrays.asList(3, 4), log);
+    }
+
+    @Test
+    public void testAsyncToValue() throws Exception {
+        ManualExecutor executor = new ManualExecutor();
+        HasValue<Integer> a = Values.newHasValue(1);
+        HasValue<String> b = Values.newHasValue();
+
+        Disposable link = a.map(Object::toString).flow().force().async(executor).to(b);
+        assertNull(b.getValue());
+
+        executor.runAll();
+        assertEquals("1", b.getValue());
+
+        a.setValue(2);
+        assertEquals("1", b.getValue());
+        executor.runAll();
+        assertEquals("2", b.getValue());
+
+        a.setValue(3);
+        link.dispose();
+        executor.runAll();
+        assertEquals("2", b.getValue());
+    }
+
+    @Test
+    public void testAsyncHasValueFlow() throws Exception {
+        ManualExecutor executor = new ManualExecutor();
+        HasValue<Integer> a = Values.newHasValue(1);
+        HasValue<Integer> b = Values.newHasValue();
+
+        a.flow().async(executor).to(b);
+        a.setValue(2);
+        executor.runAll();
+        assertEquals(new Integer(2), b.getValue());
+
+        b.setValue(3);
+        assertEquals(new Integer(2), a.getValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSyncAsync() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(1);
+        HasValue<Integer> b = Values.newHasValue();
+        a.flow().sync().async(Runnable::run).to(b);
+    }
+
+    @Test
+    public void testSlowConsumerDoesNotBlockProducer() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            DefaultHasValue<Integer> a = Values.newHasValue(0);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(1);
+            List<Integer> log = new ArrayList<>();
+
+            a.flow().async(executor).to(x -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                synchronized (log) {
+                    log.add(x);
+                }
+
+                if (x == 100) {
+                    done.countDown();
+                }
+            });
+
+            a.setValue(1);
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            for (int i = 2; i <= 100; i++) {
+                a.setValue(i);
+            }
+
+            release.countDown();
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            synchronized (log) {
+                assertEquals(Arrays.asList(1, 100), log);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
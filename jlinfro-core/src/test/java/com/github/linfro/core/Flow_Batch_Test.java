@@ -0,0 +1,150 @@
+package com.github.linfro.core;
+
+import com.github.linfro.core.value.TestListener;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class Flow_Batch_Test {
+    @Test
+    public void testBatchCoalescesChanges() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(0);
+        HasValue<Integer> b = Values.newHasValue(0);
+        HasValue<Integer> c = Values.newHasValue();
+        TestListener listener = new TestListener();
+        List<List<Integer>> log = new ArrayList<>();
+
+        a.flow().to(c);
+        GetValue<List<Integer>> union = a.union(b, c);
+        union.addChangeListener(listener);
+        union.flow().to(log::add);
+
+        Values.batch(() -> {
+            for (int i = 1; i <= 10; i++) {
+                a.setValue(i);
+                b.setValue(i * 2);
+            }
+
+            assertNull(c.getValue());
+            assertEquals(0, listener.getCounter());
+        });
+
+        assertEquals(new Integer(10), c.getValue());
+        assertEquals(1, listener.getCounter());
+        assertEquals(Arrays.asList(Arrays.asList(10, 20, 10)), log);
+    }
+
+    @Test
+    public void testNestedBatch() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(0);
+        TestListener listener = new TestListener();
+        a.addChangeListener(listener);
+
+        Values.batch(() -> {
+            a.setValue(1);
+            Values.batch(() -> a.setValue(2));
+            assertEquals(0, listener.getCounter());
+            a.setValue(3);
+        });
+
+        assertEquals(1, listener.getCounter());
+        assertEquals(new Integer(3), a.getValue());
+
+        a.setValue(4);
+        assertEquals(2, listener.getCounter());
+    }
+
+    @Test
+    public void testBatchException() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(0);
+        HasValue<Integer> b = Values.newHasValue();
+        a.map(x -> x * 2).flow().to(b);
+
+        try {
+            Values.batch(() -> {
+                a.setValue(1);
+                throw new IllegalArgumentException("test");
+            });
+            fail("Exception must be rethrown");
+        } catch (IllegalArgumentException e) {
+            assertEquals("test", e.getMessage());
+        }
+
+        assertEquals(new Integer(2), b.getValue());
+
+        a.setValue(3);
+        assertEquals(new Integer(6), b.getValue());
+    }
+
+    @Test
+    public void testBatchGlitchFree() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(1);
+        HasValue<Integer> b = Values.newHasValue(1);
+        List<String> log = new ArrayList<>();
+
+        a.map(x -> x * 10).join(b.map(x -> x + 1), (_a, _b) -> _a + "_" + _b).flow().to(log::add);
+
+        Values.batch(() -> {
+            a.setValue(2);
+            b.setValue(3);
+        });
+
+        assertEquals(Arrays.asList("20_4"), log);
+    }
+
+    @Test
+    public void testAggregateInBatch() throws Exception {
+        GetAggregateValue<Boolean> and = Values.andValue();
+        HasValue<Boolean> a = Values.newHasValue(false);
+        HasValue<Boolean> b = Values.newHasValue(false);
+        TestListener listener = new TestListener();
+
+        a.flow().force().to(and);
+        b.flow().force().to(and);
+        and.addChangeListener(listener);
+
+        Values.batch(() -> {
+            a.setValue(true);
+            b.setValue(true);
+        });
+
+        assertTrue(and.getValue());
+        assertEquals(1, listener.getCounter());
+    }
+
+    @Test
+    public void testSyncLinkInBatch() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(0);
+        HasValue<Integer> b = Values.newHasValue(0);
+        TestListener al = new TestListener();
+        TestListener bl = new TestListener();
+
+        a.flow().sync().to(b);
+        a.addChangeListener(al);
+        b.addChangeListener(bl);
+
+        Values.batch(() -> {
+            a.setValue(1);
+            a.setValue(2);
+        });
+
+        assertEquals(new Integer(2), a.getValue());
+        assertEquals(new Integer(2), b.getValue());
+        assertEquals(1, al.getCounter());
+        assertEquals(1, bl.getCounter());
+
+        b.setValue(3);
+        assertEquals(new Integer(3), a.getValue());
+        assertEquals(2, al.getCounter());
+        assertEquals(2, bl.getCounter());
+    }
+}
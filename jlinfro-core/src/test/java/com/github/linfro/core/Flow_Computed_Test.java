@@ -0,0 +1,154 @@
+package com.github.linfro.core;
+
+import com.github.linfro.core.value.GetComputedValue;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class Flow_Computed_Test {
+    @Test
+    public void testBranch() throws Exception {
+        HasValue<Boolean> flag = Values.newHasValue(true);
+        HasValue<String> a = Values.newHasValue("a");
+        HasValue<String> b = Values.newHasValue("b");
+
+        GetComputedValue<String> res = Values.computed(() -> flag.getValue() ? a.getValue() : b.getValue());
+        assertEquals(2, res.getDependencyCount());
+
+        List<String> log = new ArrayList<>();
+        res.flow().to(log::add);
+
+        // Value b is not read
+        b.setValue("b1");
+        assertTrue(log.isEmpty());
+
+        a.setValue("a1");
+        assertEquals("a1", log.get(0));
+
+        flag.setValue(false);
+        assertEquals("b1", log.get(1));
+        assertEquals(2, res.getDependencyCount());
+
+        // Value a is not read any more
+        a.setValue("a2");
+        assertEquals(2, log.size());
+
+        b.setValue("b2");
+        assertEquals("b2", log.get(2));
+        assertEquals(3, log.size());
+    }
+
+    @Test
+    public void testDerivedValues() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(1);
+        HasValue<Integer> b = Values.newHasValue(2);
+        GetValue<Integer> sum = a.join(b, (x, y) -> x + y);
+
+        // Arguments of join are read by join, not by computed value
+        GetComputedValue<Integer> res = Values.computed(() -> sum.getValue() * 10);
+        assertEquals(1, res.getDependencyCount());
+        assertEquals(new Integer(30), res.getValue());
+
+        HasValue<Integer> dst = Values.newHasValue();
+        res.flow().to(dst);
+        a.setValue(5);
+        assertEquals(new Integer(70), dst.getValue());
+    }
+
+    @Test
+    public void testNestedComputed() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(1);
+        HasValue<Integer> b = Values.newHasValue(2);
+
+        GetComputedValue<Integer> inner = Values.computed(() -> a.getValue() + b.getValue());
+        GetComputedValue<Integer> outer = Values.computed(() -> inner.getValue() * a.getValue());
+        assertEquals(2, outer.getDependencyCount());
+        assertEquals(new Integer(3), outer.getValue());
+
+        HasValue<Integer> dst = Values.newHasValue();
+        outer.flow().to(dst);
+
+        a.setValue(2);
+        assertEquals(new Integer(8), dst.getValue());
+        b.setValue(3);
+        assertEquals(new Integer(10), dst.getValue());
+        assertEquals(2, outer.getDependencyCount());
+    }
+
+    @Test
+    public void testManyValues() throws Exception {
+        List<HasValue<Integer>> values = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            values.add(Values.newHasValue(i));
+        }
+
+        GetComputedValue<Integer> sum = Values.computed(() -> {
+            int res = 0;
+            for (HasValue<Integer> value : values) {
+                res += value.getValue();
+            }
+            return res;
+        });
+        assertEquals(100, sum.getDependencyCount());
+        assertEquals(new Integer(4950), sum.getValue());
+
+        values.get(50).setValue(0);
+        assertEquals(new Integer(4900), sum.getValue());
+    }
+
+    @Test
+    public void testPrimitiveValues() throws Exception {
+        GetIntValue a = Values.newIntHasValue(3);
+        GetIntValue doubled = a.mapInt(x -> x * 2);
+
+        GetComputedValue<Integer> res = Values.computed(() -> doubled.getInt() + 1);
+        assertEquals(1, res.getDependencyCount());
+        assertEquals(new Integer(7), res.getValue());
+    }
+
+    @Test
+    public void testDispose() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(1);
+        GetComputedValue<Integer> res = Values.computed(() -> a.getValue() + 1);
+        assertTrue(res.canDispose());
+
+        res.dispose();
+        try {
+            res.getValue();
+            fail("Value must be disposed");
+        } catch (IllegalStateException e) {
+            assertEquals("Value is disposed", e.getMessage());
+        }
+
+        // Value read by supplier is not disposed
+        a.setValue(2);
+        assertEquals(new Integer(2), a.getValue());
+        assertTrue(a.canDispose());
+    }
+
+    @Test
+    public void testCallLoop() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(1);
+        List<GetValue<Integer>> self = new ArrayList<>();
+        HasValue<Boolean> loop = Values.newHasValue(false);
+
+        GetComputedValue<Integer> res = Values.computed(() -> loop.getValue() ? self.get(0).getValue() : a.getValue());
+        self.add(res);
+
+        loop.setValue(true);
+        try {
+            res.getValue();
+            fail("Call loop must be detected");
+        } catch (IllegalStateException e) {
+            assertEquals("Call loop detected", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.linfro.core;
+
+import com.github.linfro.core.value.ConcurrentHasValue;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class Flow_Delta_Test {
+    @Test
+    public void testOldAndNewValue() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(1);
+        List<String> log = new ArrayList<>();
+        List<ValueChangeEvent<?>> events = new ArrayList<>();
+
+        a.addDeltaListener(event -> log.add(event.getOldValue() + "->" + event.getNewValue()));
+        a.addDeltaListener(events::add);
+
+        a.setValue(2);
+        a.setValue(5);
+        assertEquals(Arrays.asList("1->2", "2->5"), log);
+
+        // Event object is reused
+        assertSame(events.get(0), events.get(1));
+        assertSame(a, events.get(0).getGetter());
+    }
+
+    @Test
+    public void testValidity() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(1);
+        GetValue<Integer> positive = a.filter(x -> x > 0);
+        List<String> log = new ArrayList<>();
+
+        ValueDeltaListener<Integer> listener = event -> log.add(event.isOldValueValid() + ":" + event.getOldValue()
+                + "->" + event.isNewValueValid() + ":" + event.getNewValue());
+        positive.addDeltaListener(listener);
+
+        a.setValue(-1);
+        a.setValue(3);
+        assertEquals(Arrays.asList("true:1->false:null", "false:null->true:3"), log);
+
+        assertFalse(positive.canDispose());
+        positive.removeDeltaListener(listener);
+        assertTrue(positive.canDispose());
+
+        a.setValue(4);
+        assertEquals(2, log.size());
+    }
+
+    @Test
+    public void testSharedPreviousValue() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(1);
+        GetValue<Integer> b = a.map(x -> x * 10);
+        List<String> log = new ArrayList<>();
+
+        ValueDeltaListener<Integer> first = event -> log.add("first " + event.getOldValue());
+        ValueDeltaListener<Integer> second = event -> log.add("second " + event.getOldValue());
+        b.addDeltaListener(first);
+        a.setValue(2);
+
+        // Added listener receives previous value kept by the value
+        b.addDeltaListener(second);
+        a.setValue(3);
+        assertEquals(Arrays.asList("first 10", "first 20", "second 20"), log);
+
+        b.removeDeltaListener(first);
+        assertFalse(b.canDispose());
+        b.removeDeltaListener(second);
+        assertTrue(b.canDispose());
+    }
+
+    @Test
+    public void testConcurrentValue() throws Exception {
+        ConcurrentHasValue<String> a = Values.newConcurrentHasValue("x");
+        List<String> log = new ArrayList<>();
+        ValueDeltaListener<String> listener = event -> log.add(event.getOldValue() + "->" + event.getNewValue());
+
+        a.addDeltaListener(listener);
+        a.setValue("y");
+        a.removeDeltaListener(listener);
+        a.setValue("z");
+        assertEquals(Arrays.asList("x->y"), log);
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.linfro.core;
+
+import com.github.linfro.core.value.DefaultHasValue;
+import com.github.linfro.core.value.GetJoin2Value;
+import com.github.linfro.core.value.TestListener;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class Flow_GlitchFree_Test {
+    @Test
+    public void testDiamondDepthFirst() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue(1);
+        List<String> log = new ArrayList<>();
+
+        GetValue<Integer> b = a.map(x -> x * 10);
+        GetValue<Integer> c = a.map(x -> x + 1);
+        b.join(c, (_b, _c) -> _b + "_" + _c).flow().to(log::add);
+
+        a.setValue(2);
+        assertEquals(Arrays.asList("20_3", "20_3"), log);
+    }
+
+    @Test
+    public void testDiamondGlitchFree() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue(1);
+        a.setGlitchFree(true);
+        List<String> log = new ArrayList<>();
+
+        GetValue<Integer> b = a.map(x -> x * 10);
+        GetValue<Integer> c = a.map(x -> x + 1).map(x -> x * 2);
+        b.join(c, (_b, _c) -> _b + "_" + _c).flow().to(log::add);
+
+        a.setValue(2);
+        assertEquals(Arrays.asList("20_6"), log);
+
+        a.setValue(3);
+        assertEquals(Arrays.asList("20_6", "30_8"), log);
+    }
+
+    @Test
+    public void testUnionGlitchFree() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue(1);
+        a.setGlitchFree(true);
+        TestListener listener = new TestListener();
+        List<List<Integer>> log = new ArrayList<>();
+
+        GetValue<List<Integer>> union = a.map(x -> x - 1).union(a, a.map(x -> x + 1));
+        union.addChangeListener(listener);
+        union.flow().to(log::add);
+
+        a.setValue(5);
+        assertEquals(1, listener.getCounter());
+        assertEquals(Arrays.asList(Arrays.asList(4, 5, 6)), log);
+    }
+
+    @Test
+    public void testStrongStopsPropagation() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue(1);
+        a.setGlitchFree(true);
+        List<String> log = new ArrayList<>();
+
+        GetValue<Boolean> positive = a.map(x -> x > 0).strong();
+        positive.join(a, (_p, _a) -> _p + "_" + _a).flow().to(log::add);
+
+        TestListener listener = new TestListener();
+        positive.addChangeListener(listener);
+
+        a.setValue(2);
+        assertEquals(0, listener.getCounter());
+        assertEquals(Arrays.asList("true_2"), log);
+
+        a.setValue(-2);
+        assertEquals(1, listener.getCounter());
+        assertEquals(Arrays.asList("true_2", "false_-2"), log);
+    }
+
+    @Test
+    public void testRank() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue(1);
+        GetValue<Integer> b = a.map(x -> x).strong().map(x -> x);
+
+        GetJoin2Value<Integer, Integer, Integer> join = new GetJoin2Value<>(a, b, (x, y) -> x + y);
+        assertEquals(0, a.getRank());
+        assertEquals(3, join.getRank());
+
+        // Chain of maps is fused into single value
+        GetValue<Integer> c = a.map(x -> x).map(x -> x);
+        join = new GetJoin2Value<>(a, c, (x, y) -> x + y);
+        assertEquals(2, join.getRank());
+    }
+
+    @Test
+    public void testLinkInsideGlitchFree() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue(1);
+        a.setGlitchFree(true);
+        HasValue<String> res = Values.newHasValue();
+        HasValue<Integer> copy = Values.newHasValue();
+
+        a.flow().to(copy);
+        a.join(copy, (_a, _c) -> _a + "_" + _c).flow().to(res);
+
+        a.setValue(2);
+        assertEquals(new Integer(2), copy.getValue());
+        assertEquals("2_2", res.getValue());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCallLoopGlitchFree() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue(1);
+        a.setGlitchFree(true);
+        a.map(x -> x + 1).flow().to(a);
+
+        a.setValue(2);
+    }
+}
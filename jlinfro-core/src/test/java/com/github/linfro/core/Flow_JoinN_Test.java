@@ -0,0 +1,169 @@
+package com.github.linfro.core;
+
+import com.github.linfro.core.common.Disposable;
+import com.github.linfro.core.value.DefaultHasValue;
+import com.github.linfro.core.value.TestGetValue;
+import com.github.linfro.core.value.TestListener;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class Flow_JoinN_Test {
+    @Test
+    public void testJoin3() throws Exception {
+        HasValue<String> a = Values.newHasValue("a");
+        HasValue<Integer> b = Values.newHasValue(1);
+        HasValue<Boolean> c = Values.newHasValue(true);
+        HasValue<String> res = Values.newHasValue();
+
+        TestListener listener = new TestListener();
+        res.addChangeListener(listener);
+
+        Disposable link = a.join(b, c, (_a, _b, _c) -> _a + _b + _c).flow().force().to(res);
+        assertEquals("a1true", res.getValue());
+        assertEquals(1, listener.getCounter());
+
+        b.setValue(2);
+        assertEquals("a2true", res.getValue());
+        c.setValue(false);
+        assertEquals("a2false", res.getValue());
+        assertEquals(3, listener.getCounter());
+
+        link.dispose();
+        a.setValue("disposed");
+        assertEquals("a2false", res.getValue());
+        assertEquals(3, listener.getCounter());
+    }
+
+    @Test
+    public void testJoin5() throws Exception {
+        TestGetValue<Integer> a = TestGetValue.newGetValue(1);
+        TestGetValue<Integer> b = TestGetValue.newGetValue(2);
+        TestGetValue<Integer> c = TestGetValue.newGetValue(3);
+        TestGetValue<Integer> d = TestGetValue.newGetValue(4);
+        TestGetValue<Integer> e = TestGetValue.newGetValue(5);
+
+        GetValue<Integer> join = a.join(b, c, d, e, (_a, _b, _c, _d, _e) -> _a + 10 * _b + 100 * _c + 1000 * _d + 10000 * _e);
+        assertJoin(join, 54321, a, b, c, d, e);
+    }
+
+    @Test
+    public void testJoin6() throws Exception {
+        TestGetValue<Integer> a = TestGetValue.newGetValue(1);
+        TestGetValue<Integer> b = TestGetValue.newGetValue(2);
+        TestGetValue<Integer> c = TestGetValue.newGetValue(3);
+        TestGetValue<Integer> d = TestGetValue.newGetValue(4);
+        TestGetValue<Integer> e = TestGetValue.newGetValue(5);
+        TestGetValue<Integer> f = TestGetValue.newGetValue(6);
+
+        GetValue<Integer> join = a.join(b, c, d, e, f, (_a, _b, _c, _d, _e, _f) ->
+                _a + 10 * _b + 100 * _c + 1000 * _d + 10000 * _e + 100000 * _f);
+        assertJoin(join, 654321, a, b, c, d, e, f);
+    }
+
+    @Test
+    public void testJoin7() throws Exception {
+        TestGetValue<Integer> a = TestGetValue.newGetValue(1);
+        TestGetValue<Integer> b = TestGetValue.newGetValue(2);
+        TestGetValue<Integer> c = TestGetValue.newGetValue(3);
+        TestGetValue<Integer> d = TestGetValue.newGetValue(4);
+        TestGetValue<Integer> e = TestGetValue.newGetValue(5);
+        TestGetValue<Integer> f = TestGetValue.newGetValue(6);
+        TestGetValue<Integer> g = TestGetValue.newGetValue(7);
+
+        GetValue<Integer> join = a.join(b, c, d, e, f, g, (_a, _b, _c, _d, _e, _f, _g) ->
+                _a + 10 * _b + 100 * _c + 1000 * _d + 10000 * _e + 100000 * _f + 1000000 * _g);
+        assertJoin(join, 7654321, a, b, c, d, e, f, g);
+    }
+
+    @Test
+    public void testJoin8() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(1);
+        HasValue<Integer> b = Values.newHasValue(2);
+        HasValue<Integer> c = Values.newHasValue(3);
+        HasValue<Integer> d = Values.newHasValue(4);
+        HasValue<Integer> e = Values.newHasValue(5);
+        HasValue<Integer> f = Values.newHasValue(6);
+        HasValue<Integer> g = Values.newHasValue(7);
+        HasValue<Integer> h = Values.newHasValue(8);
+        HasValue<Integer> res = Values.newHasValue();
+
+        AtomicInteger calls = new AtomicInteger();
+        GetValue<Integer> sum = a.join(b, c, d, e, f, g, h, (_a, _b, _c, _d, _e, _f, _g, _h) -> {
+            calls.incrementAndGet();
+            return _a + _b + _c + _d + _e + _f + _g + _h;
+        });
+        assertEquals(new Integer(36), sum.getValue());
+        assertEquals(new Integer(36), sum.getValue());
+        assertEquals(1, calls.get());
+
+        Disposable link = sum.flow().to(res);
+        h.setValue(18);
+        assertEquals(new Integer(46), res.getValue());
+        a.setValue(11);
+        assertEquals(new Integer(56), res.getValue());
+
+        link.dispose();
+        e.setValue(0);
+        assertEquals(new Integer(56), res.getValue());
+    }
+
+    @Test
+    public void testJoinSameArgument() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue(2);
+        a.setGlitchFree(true);
+        HasValue<Integer> res = Values.newHasValue();
+
+        TestListener listener = new TestListener();
+        res.addChangeListener(listener);
+
+        a.join(a, a, a, (x, y, z, w) -> x * y * z * w).flow().force().to(res);
+        assertEquals(new Integer(16), res.getValue());
+
+        a.setValue(3);
+        assertEquals(new Integer(81), res.getValue());
+        assertEquals(2, listener.getCounter());
+    }
+
+    /**
+     * Arguments hold digits 1..N, so the join value is decimal number made of argument values in reverse order.
+     */
+    @SafeVarargs
+    private static void assertJoin(GetValue<Integer> join, int expected, TestGetValue<Integer>... args) {
+        HasValue<Integer> res = Values.newHasValue();
+        TestListener listener = new TestListener();
+        res.addChangeListener(listener);
+
+        Disposable link = join.flow().force().to(res);
+        assertEquals(new Integer(expected), res.getValue());
+        assertEquals(1, listener.getCounter());
+
+        // Every argument is wired to its own position
+        int weight = 1;
+        for (TestGetValue<Integer> arg : args) {
+            assertTrue(arg.hasListeners());
+
+            arg.update(arg.getValue() + 1);
+            expected += weight;
+            assertEquals(new Integer(expected), res.getValue());
+            weight *= 10;
+        }
+        assertEquals(1 + args.length, listener.getCounter());
+
+        link.dispose();
+        for (TestGetValue<Integer> arg : args) {
+            assertFalse(arg.hasListeners());
+        }
+
+        args[0].update(0);
+        assertEquals(new Integer(expected), res.getValue());
+        assertEquals(1 + args.length, listener.getCounter());
+    }
+}
@@ -0,0 +1,219 @@
+package com.github.linfro.core;
+
+import com.github.linfro.core.common.Disposable;
+import com.github.linfro.core.value.DefaultHasValue;
+import com.github.linfro.core.value.TestListener;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class Flow_Lazy_Test {
+    private static final class Scheduler implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        public void tick() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    @Test
+    public void testPullOnTick() throws Exception {
+        Scheduler scheduler = new Scheduler();
+        DefaultHasValue<Integer> a = Values.newHasValue(0);
+        AtomicInteger calls = new AtomicInteger();
+        List<Integer> log = new ArrayList<>();
+
+        a.map(x -> {
+            calls.incrementAndGet();
+            return x * 10;
+        }).flow().lazy(scheduler).to(log::add);
+
+        for (int i = 1; i <= 100; i++) {
+            a.setValue(i);
+        }
+        assertEquals(0, calls.get());
+        assertEquals(1, scheduler.tasks.size());
+
+        scheduler.tick();
+        assertEquals(1, calls.get());
+        assertEquals(Arrays.asList(1000), log);
+
+        a.setValue(5);
+        scheduler.tick();
+        assertEquals(Arrays.asList(1000, 50), log);
+    }
+
+    @Test
+    public void testStaleMarkSentOnce() throws Exception {
+        Scheduler scheduler = new Scheduler();
+        DefaultHasValue<Integer> a = Values.newHasValue(0);
+        a.setLazy(true);
+        HasValue<Integer> res = Values.newHasValue();
+
+        GetValue<Integer> b = a.map(x -> x + 1);
+        TestListener listener = new TestListener();
+        b.addChangeListener(listener);
+        b.flow().lazy(scheduler).to(res);
+
+        a.setValue(1);
+        a.setValue(2);
+        a.setValue(3);
+        assertEquals(1, listener.getCounter());
+        assertNull(res.getValue());
+
+        scheduler.tick();
+        assertEquals(new Integer(4), res.getValue());
+
+        a.setValue(4);
+        a.setValue(5);
+        assertEquals(2, listener.getCounter());
+
+        scheduler.tick();
+        assertEquals(new Integer(6), res.getValue());
+    }
+
+    @Test
+    public void testStrongBetweenLazySourceAndSink() throws Exception {
+        Scheduler scheduler = new Scheduler();
+        DefaultHasValue<Integer> a = Values.newHasValue(0);
+        a.setLazy(true);
+        List<Integer> log = new ArrayList<>();
+        a.strong().flow().lazy(scheduler).to(log::add);
+
+        a.setValue(1);
+        a.setValue(2);
+        scheduler.tick();
+        assertEquals(Arrays.asList(2), log);
+
+        a.setValue(3);
+        a.setValue(3);
+        scheduler.tick();
+        assertEquals(Arrays.asList(2, 3), log);
+    }
+
+    @Test
+    public void testFusedStrongBetweenLazySourceAndSink() throws Exception {
+        Scheduler scheduler = new Scheduler();
+        DefaultHasValue<Integer> a = Values.newHasValue(0);
+        a.setLazy(true);
+        List<Integer> log = new ArrayList<>();
+        a.map(x -> x * 10).strong().flow().lazy(scheduler).to(log::add);
+
+        a.setValue(1);
+        a.setValue(2);
+        scheduler.tick();
+        assertEquals(Arrays.asList(20), log);
+
+        a.setValue(4);
+        scheduler.tick();
+        assertEquals(Arrays.asList(20, 40), log);
+    }
+
+    @Test
+    public void testReadingListener() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue(0);
+        a.setLazy(true);
+        List<Integer> log = new ArrayList<>();
+        a.addChangeListener(getter -> log.add(getter.getValue()));
+
+        a.setValue(1);
+        a.setValue(2);
+        a.setValue(3);
+        assertEquals(Arrays.asList(1, 2, 3), log);
+    }
+
+    @Test
+    public void testStaleStatePerValue() throws Exception {
+        Scheduler scheduler = new Scheduler();
+        DefaultHasValue<Integer> a = Values.newHasValue(0);
+        DefaultHasValue<Integer> b = Values.newHasValue(0);
+        a.setLazy(true);
+        b.setLazy(true);
+        TestListener listener = new TestListener();
+        a.addChangeListener(listener);
+        List<Integer> log = new ArrayList<>();
+        b.flow().lazy(scheduler).to(log::add);
+
+        a.setValue(1);
+        b.setValue(1);
+        scheduler.tick();
+
+        // Pull of b does not re-arm a
+        a.setValue(2);
+        assertEquals(1, listener.getCounter());
+        assertEquals(Arrays.asList(1), log);
+    }
+
+        @Test
+    public void testEagerLinkOnLazyValue() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue(0);
+        a.setLazy(true);
+        List<Integer> log = new ArrayList<>();
+
+        a.map(x -> x * 2).flow().to(log::add);
+
+        a.setValue(1);
+        a.setValue(2);
+        assertEquals(Arrays.asList(2, 4), log);
+    }
+
+    @Test
+    public void testSyncLinkOnLazyValues() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue(0);
+        DefaultHasValue<Integer> b = Values.newHasValue(0);
+        a.setLazy(true);
+        b.setLazy(true);
+
+        a.flow().sync().to(b);
+
+        a.setValue(1);
+        assertEquals(new Integer(1), b.getValue());
+
+        b.setValue(2);
+        assertEquals(new Integer(2), a.getValue());
+
+        a.setValue(3);
+        assertEquals(new Integer(3), b.getValue());
+    }
+
+    @Test
+    public void testDispose() throws Exception {
+        Scheduler scheduler = new Scheduler();
+        HasValue<Integer> a = Values.newHasValue(0);
+        HasValue<Integer> b = Values.newHasValue(0);
+
+        Disposable link = a.flow().lazy(scheduler).to(b);
+        a.setValue(1);
+        link.dispose();
+        scheduler.tick();
+        assertEquals(new Integer(0), b.getValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSyncLazy() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(0);
+        HasValue<Integer> b = Values.newHasValue(0);
+        a.flow().sync().lazy(new Scheduler()).to(b);
+    }
+}
@@ -5,6 +5,10 @@ import com.github.linfro.core.value.TestListener;
 import org.junit.Test;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -15,7 +19,7 @@ import static org.junit.Assert.*;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-06-12
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class Flow_Merge_Test {
@@ -204,6 +208,7 @@ public class Flow_Merge_Test {
         assertEquals(new Long(512L), c.getValue());
         forKeys("a", "b", "c").assertMap(merge.getValue(), "ddd", 12, 512L);
         assertEquals("a", merge.getMetaName());
+        Map<String, Object> snapshot = merge.getValue();
 
         //****** dispose **************************
 
@@ -218,6 +223,9 @@ public class Flow_Merge_Test {
         assertDisposed(merge::getMetaName);
         assertDisposed(merge::isValueValid);
 
+        // Snapshot is independent from disposed merge
+        forKeys("a", "b", "c").assertMap(snapshot, "ddd", 12, 512L);
+
         assertDisposed(a::getValue);
         assertDisposed(a::getMetaName);
         assertDisposed(a::isValueValid);
@@ -443,4 +451,39 @@ public class Flow_Merge_Test {
             }
         }
     }
+
+    @Test
+    public void testMergeResultSnapshot() throws Exception {
+        HasValue<String> a = Values.<String>newHasValue("a").named("first");
+        HasValue<Integer> b = Values.newHasValue(1);
+        HasValue<Long> c = Values.newHasValue(2L);
+
+        GetValue<Map<String, Object>> merge = a.merge(b, c);
+        Map<String, Object> first = merge.getValue();
+        assertSame(first, merge.getValue());
+
+        List<String> keys = new ArrayList<>(first.keySet());
+        assertEquals(Arrays.asList("first", "arg1", "arg2"), keys);
+
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("first", "a");
+        expected.put("arg1", 1);
+        expected.put("arg2", 2L);
+        assertEquals(expected, first);
+
+        b.setValue(10);
+        Map<String, Object> second = merge.getValue();
+        assertEquals(10, second.get("arg1"));
+        assertEquals(1, first.get("arg1"));
+        assertEquals("a", second.get("first"));
+        assertNull(second.get("unknown"));
+        assertFalse(second.containsKey("unknown"));
+
+        try {
+            second.put("first", "b");
+            fail();
+        } catch (UnsupportedOperationException e) {
+            // Expected
+        }
+    }
 }
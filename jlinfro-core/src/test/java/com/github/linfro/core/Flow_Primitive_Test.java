@@ -0,0 +1,170 @@
+package com.github.linfro.core;
+
+import com.github.linfro.core.value.BooleanHasValue;
+import com.github.linfro.core.value.DoubleHasValue;
+import com.github.linfro.core.value.IntHasValue;
+import com.github.linfro.core.value.LongHasValue;
+import com.github.linfro.core.value.TestListener;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class Flow_Primitive_Test {
+    @Test
+    public void testIntValue() throws Exception {
+        IntHasValue a = Values.newIntHasValue(1);
+        GetIntValue b = a.mapInt(x -> x * 10);
+        GetIntValue c = b.filterInt(x -> x > 0);
+        List<Integer> log = new ArrayList<>();
+
+        c.flow().to(log::add);
+        assertEquals(10, b.getInt());
+
+        a.setInt(2);
+        a.setInt(-1);
+        assertEquals(-10, c.getInt());
+        assertFalse(c.isValueValid());
+
+        a.setValue(3);
+        assertEquals(Arrays.asList(20, 30), log);
+        assertEquals(new Integer(30), c.getValue());
+    }
+
+    @Test
+    public void testIntStrong() throws Exception {
+        IntHasValue a = Values.newIntHasValue(1);
+        GetIntValue b = a.mapInt(x -> x / 10).strongInt();
+        TestListener listener = new TestListener();
+        b.addChangeListener(listener);
+
+        a.setInt(5);
+        assertEquals(0, listener.getCounter());
+
+        a.setInt(15);
+        assertEquals(1, listener.getCounter());
+        assertEquals(1, b.getInt());
+    }
+
+    @Test
+    public void testLongValue() throws Exception {
+        LongHasValue a = Values.newLongHasValue(1L);
+        GetLongValue b = a.mapLong(x -> x << 32).strongLong();
+        HasValue<Long> res = Values.newHasValue();
+
+        b.flow().force().to(res);
+        assertEquals(new Long(1L << 32), res.getValue());
+
+        a.setLong(2L);
+        assertEquals(2L << 32, b.getLong());
+        assertEquals(new Long(2L << 32), res.getValue());
+    }
+
+    @Test
+    public void testDoubleStrongTolerance() throws Exception {
+        DoubleHasValue a = Values.newDoubleHasValue(1.0);
+        GetDoubleValue b = a.mapDouble(x -> x * 2).strongDouble(0.1);
+        List<Double> log = new ArrayList<>();
+        b.flow().to(log::add);
+
+        a.setDouble(1.01);
+        assertEquals(2.02, b.getDouble(), 0.0);
+        assertTrue(log.isEmpty());
+
+        a.setDouble(1.2);
+        a.setDouble(Double.NaN);
+        a.setDouble(Double.NaN);
+        assertEquals(Arrays.asList(2.4, Double.NaN), log);
+    }
+
+    @Test
+    public void testDoubleFilter() throws Exception {
+        DoubleHasValue a = Values.newDoubleHasValue();
+        GetDoubleValue b = a.filterDouble(x -> !Double.isNaN(x));
+
+        assertTrue(b.isValueValid());
+        a.setDouble(Double.NaN);
+        assertFalse(b.isValueValid());
+    }
+
+    @Test
+    public void testBooleanValue() throws Exception {
+        BooleanHasValue a = Values.newBooleanHasValue();
+        GetBooleanValue b = a.not().strongBoolean();
+        TestListener listener = new TestListener();
+        b.addChangeListener(listener);
+        assertTrue(b.getBoolean());
+
+        a.setBoolean(false);
+        assertEquals(0, listener.getCounter());
+
+        a.setBoolean(true);
+        assertEquals(1, listener.getCounter());
+        assertFalse(b.getBoolean());
+    }
+
+    @Test
+    public void testGenericInterop() throws Exception {
+        IntHasValue a = Values.newIntHasValue(1);
+        HasValue<Integer> b = Values.newHasValue(5);
+
+        a.flow().sync().to(b);
+        assertEquals(new Integer(5), b.getValue());
+
+        b.setValue(7);
+        assertEquals(7, a.getInt());
+
+        GetValue<String> s = a.join(b, (_a, _b) -> _a + "_" + _b);
+        assertEquals("7_7", s.getValue());
+    }
+
+    @Test
+    public void testSetNull() throws Exception {
+        IntHasValue a = Values.newIntHasValue(3);
+        a.setValue(null);
+        assertEquals(0, a.getInt());
+
+        LongHasValue b = Values.newLongHasValue(3L);
+        b.setValue(null);
+        assertEquals(0L, b.getLong());
+
+        DoubleHasValue c = Values.newDoubleHasValue(3.0);
+        c.setValue(null);
+        assertEquals(0.0, c.getDouble(), 0.0);
+    }
+
+    @Test
+    public void testLinkNull() throws Exception {
+        HasValue<Integer> source = Values.newHasValue(0);
+        IntHasValue target = Values.newIntHasValue();
+        source.flow().to(target);
+        source.setValue(5);
+        assertEquals(5, target.getInt());
+
+        source.setValue(null);
+        assertEquals(0, target.getInt());
+    }
+
+    @Test
+    public void testDispose() throws Exception {
+        IntHasValue a = Values.newIntHasValue(1);
+        GetIntValue b = a.mapInt(x -> x + 1);
+        b.flow().to(x -> {
+        }).dispose();
+
+        try {
+            b.getInt();
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("Value is disposed", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.linfro.core;
+
+import com.github.linfro.core.value.DefaultHasValue;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class Flow_Reentrant_Test {
+    @Test
+    public void testClamp() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue(0);
+        a.setMaxReentrantIterations(4);
+
+        List<Integer> log = new ArrayList<>();
+        a.addChangeListener(getter -> {
+            int value = getter.getValue();
+            if (value > 10) {
+                a.setValue(10);
+            } else if (value < 0) {
+                a.setValue(0);
+            }
+        });
+        a.addChangeListener(getter -> log.add(getter.getValue()));
+
+        a.setValue(15);
+        assertEquals(new Integer(10), a.getValue());
+        // Second listener sees the original change first, queued change is applied after it
+        assertEquals(Arrays.asList(15, 10), log);
+
+        a.setValue(-3);
+        assertEquals(new Integer(0), a.getValue());
+        assertEquals(Arrays.asList(15, 10, -3, 0), log);
+    }
+
+    @Test
+    public void testNormalizeThroughLink() throws Exception {
+        DefaultHasValue<String> text = Values.newHasValue("");
+        text.setMaxReentrantIterations(2);
+        HasValue<String> res = Values.newHasValue();
+
+        text.flow().to(res);
+        text.addChangeListener(getter -> {
+            String value = getter.getValue();
+            if ((value != null) && !value.equals(value.trim())) {
+                text.setValue(value.trim());
+            }
+        });
+
+        text.setValue("  abc ");
+        assertEquals("abc", text.getValue());
+        assertEquals("abc", res.getValue());
+    }
+
+    @Test
+    public void testDivergentLoop() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue(0);
+        a.setMaxReentrantIterations(10);
+        a.addChangeListener(getter -> a.setValue(getter.getValue() + 1));
+
+        try {
+            a.setValue(1);
+            fail("Divergent loop must be detected");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().startsWith("Call loop detected"));
+        }
+        assertEquals(new Integer(12), a.getValue());
+
+        a.setMaxReentrantIterations(0);
+        try {
+            a.setValue(1);
+            fail("Call loop must be detected");
+        } catch (IllegalStateException e) {
+            assertEquals("Call loop detected", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testTrampolined() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue(0);
+        a.setTrampolined(true);
+        a.setMaxReentrantIterations(4);
+        HasValue<Integer> b = Values.newHasValue(0);
+
+        a.flow().to(b);
+        b.addChangeListener(getter -> {
+            if (getter.getValue() > 10) {
+                a.setValue(10);
+            }
+        });
+
+        a.setValue(20);
+        assertEquals(new Integer(10), a.getValue());
+        assertEquals(new Integer(10), b.getValue());
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.linfro.core;
+
+import com.github.linfro.core.value.DefaultHasValue;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class Flow_Trampoline_Test {
+    private static final int CHAIN_LENGTH = 50000;
+
+    @Test
+    public void testLongLinkChain() throws Exception {
+        DefaultHasValue<Integer> first = Values.newHasValue(0);
+        first.setTrampolined(true);
+
+        HasValue<Integer> last = first;
+        for (int i = 0; i < CHAIN_LENGTH; i++) {
+            HasValue<Integer> next = Values.newHasValue(0);
+            last.map(x -> x + 1).flow().to(next);
+            last = next;
+        }
+
+        first.setValue(1);
+        assertEquals(new Integer(CHAIN_LENGTH + 1), last.getValue());
+    }
+
+    @Test
+    public void testLongSyncChain() throws Exception {
+        DefaultHasValue<Integer> first = Values.newHasValue(0);
+        first.setTrampolined(true);
+
+        List<DefaultHasValue<Integer>> chain = new ArrayList<>();
+        chain.add(first);
+        for (int i = 0; i < CHAIN_LENGTH; i++) {
+            DefaultHasValue<Integer> next = Values.newHasValue(0);
+            chain.get(i).flow().sync().to(next);
+            chain.add(next);
+        }
+
+        first.setValue(7);
+        assertEquals(new Integer(7), chain.get(CHAIN_LENGTH).getValue());
+
+        DefaultHasValue<Integer> last = chain.get(CHAIN_LENGTH);
+        last.setTrampolined(true);
+        last.setValue(8);
+        assertEquals(new Integer(8), first.getValue());
+        assertEquals(new Integer(8), chain.get(CHAIN_LENGTH / 2).getValue());
+    }
+
+    @Test
+    public void testDepthFirstOrder() throws Exception {
+        assertEquals(notificationOrder(false), notificationOrder(true));
+    }
+
+    private List<String> notificationOrder(boolean trampolined) {
+        DefaultHasValue<Integer> a = Values.newHasValue(0);
+        a.setTrampolined(trampolined);
+        HasValue<Integer> b = Values.newHasValue(0);
+        HasValue<Integer> c = Values.newHasValue(0);
+        List<String> log = new ArrayList<>();
+
+        a.addChangeListener(getter -> log.add("a1"));
+        a.flow().to(b);
+        a.addChangeListener(getter -> log.add("a2"));
+        b.addChangeListener(getter -> log.add("b1"));
+        b.flow().to(c);
+        b.addChangeListener(getter -> log.add("b2"));
+        c.addChangeListener(getter -> log.add("c"));
+        a.map(x -> x * 2).flow().to(value -> log.add("map" + value));
+
+        // Values fired by the same listener are notified in the order they have been fired
+        HasValue<Integer> d = Values.newHasValue(0);
+        HasValue<Integer> e = Values.newHasValue(0);
+        d.addChangeListener(getter -> log.add("d" + getter.getValue()));
+        e.addChangeListener(getter -> log.add("e" + getter.getValue()));
+        a.addChangeListener(getter -> {
+            d.setValue(getter.getValue());
+            e.setValue(getter.getValue());
+        });
+
+        a.setValue(1);
+        return log;
+    }
+
+    @Test
+    public void testRefire() throws Exception {
+        assertEquals(Arrays.asList("b1", "b2", "after"), refireOrder(false));
+        // Trampolined fire is deferred up to the end of the listener and does not detect false call loop
+        assertEquals(Arrays.asList("after", "b2", "b2"), refireOrder(true));
+    }
+
+    private List<String> refireOrder(boolean trampolined) {
+        DefaultHasValue<Integer> a = Values.newHasValue(0);
+        a.setTrampolined(trampolined);
+        HasValue<Integer> b = Values.newHasValue(0);
+        List<String> log = new ArrayList<>();
+
+        b.addChangeListener(getter -> log.add("b" + getter.getValue()));
+        a.addChangeListener(getter -> {
+            b.setValue(1);
+            b.setValue(2);
+            log.add("after");
+        });
+
+        a.setValue(1);
+        return log;
+    }
+
+        @Test
+    public void testCallLoopDetected() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue(0);
+        a.setTrampolined(true);
+        HasValue<Integer> b = Values.newHasValue(0);
+        a.flow().to(b);
+        ValueChangeListener<Integer> feedback = getter -> a.setValue(getter.getValue() + 1);
+        b.addChangeListener(feedback);
+
+        try {
+            a.setValue(1);
+            fail("Call loop must be detected");
+        } catch (IllegalStateException e) {
+            assertEquals("Call loop detected", e.getMessage());
+        }
+
+        // Trampoline is unwound: values are not marked as firing and link lock is released
+        b.removeChangeListener(feedback);
+        a.setValue(5);
+        assertEquals(new Integer(5), b.getValue());
+    }
+}
@@ -2,19 +2,21 @@ package com.github.linfro.core;
 
 import com.github.linfro.core.common.Disposable;
 import com.github.linfro.core.common.ObjectUtil;
+import com.github.linfro.core.value.GetUnionValue;
 import com.github.linfro.core.value.TestGetValue;
 import com.github.linfro.core.value.TestListener;
 import org.junit.Test;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.github.linfro.core.value.TestUtil.assertDisposed;
 import static org.junit.Assert.*;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-02-16
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class Flow_Union_Test {
@@ -1040,4 +1042,43 @@ public class Flow_Union_Test {
         assertEquals(9, listener.getCounter());
         assertList(res.getValue(), "arg0", "arg1", "arg2", "arg3", "arg4", "arg5", "arg6", "arg7", "arg8");
     }
+
+    @Test
+    public void testUnionRefreshesChangedSlot() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        TestGetValue<Integer> a = new TestGetValue<Integer>(1) {
+            @Override
+            public Integer getValue() {
+                reads.incrementAndGet();
+                return super.getValue();
+            }
+        };
+        TestGetValue<Integer> b = TestGetValue.newGetValue(2);
+
+        GetUnionValue<Integer> union = new GetUnionValue<>(a, b, a);
+        List<Integer> first = union.getValue();
+        assertList(first, 1, 2, 1);
+        assertEquals(2, reads.get());
+        assertSame(first, union.getValue());
+
+        b.update(3);
+        List<Integer> second = union.getValue();
+        assertList(second, 1, 3, 1);
+        assertList(first, 1, 2, 1);
+        assertEquals(2, reads.get());
+
+        a.update(4);
+        assertList(union.getValue(), 4, 3, 4);
+        assertEquals(4, reads.get());
+
+        union.fireValueChanged();
+        assertList(union.getValue(), 4, 3, 4);
+        assertEquals(6, reads.get());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnionResultIsImmutable() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(1);
+        a.union(a).getValue().set(0, 2);
+    }
 }
@@ -0,0 +1,153 @@
+package com.github.linfro.core;
+
+import com.github.linfro.core.common.Disposable;
+import com.github.linfro.core.dsl.Context;
+import com.github.linfro.core.dsl.SimpleLink;
+import com.github.linfro.core.dsl.SyncLink;
+import com.github.linfro.core.dsl.WeakTarget;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class Flow_Weak_Test {
+    @Test
+    public void testWeakLink() throws Exception {
+        HasValue<Integer> src = Values.newHasValue(1);
+        HasValue<Integer> res = Values.newHasValue();
+
+        Disposable link = src.flow().weak().force().to(res);
+        assertEquals(new Integer(1), res.getValue());
+
+        src.setValue(2);
+        assertEquals(new Integer(2), res.getValue());
+
+        link.dispose();
+        src.setValue(3);
+        assertEquals(new Integer(2), res.getValue());
+    }
+
+    @Test
+    public void testTargetNotKept() throws Exception {
+        HasValue<Integer> src = Values.newHasValue(1);
+        TestWeakLink<Integer> link = new TestWeakLink<>(src, Values.newHasValue(), weakContext(false));
+        assertNull(link.getTo());
+
+        TestWeakSyncLink<Integer> syncLink = new TestWeakSyncLink<>(src, Values.newHasValue(), weakContext(true));
+        assertNull(syncLink.getFrom());
+        assertNull(syncLink.getTo());
+    }
+
+    @Test
+    public void testCollectedTarget() throws Exception {
+        HasValue<Integer> src = Values.newHasValue(1);
+        GetValue<Integer> mid = src.map(x -> x + 1);
+
+        TestWeakLink<Integer> link = new TestWeakLink<>(mid, Values.newHasValue(), weakContext(false));
+        // Clearing of the reference simulates collection of the target
+        link.getWeakTo().clear();
+
+        // Collected target is released on fire, then the link is disposed
+        src.setValue(2);
+        assertDisposed(mid);
+    }
+
+    @Test
+    public void testCollectedTargetOfOtherGraph() throws Exception {
+        HasValue<Integer> src = Values.newHasValue(1);
+        GetValue<Integer> mid = src.map(x -> x + 1);
+        TestWeakLink<Integer> link = new TestWeakLink<>(mid, Values.newHasValue(), weakContext(false));
+        link.getWeakTo().clear();
+
+        // Other graph does not release collected target of the first one
+        HasValue<Integer> otherSrc = Values.newHasValue(1);
+        HasValue<Integer> otherRes = Values.newHasValue();
+        otherSrc.flow().weak().to(otherRes);
+        otherSrc.setValue(2);
+        assertEquals(new Integer(2), otherRes.getValue());
+        assertEquals(new Integer(2), mid.getValue());
+    }
+
+    @Test
+    public void testCollectedSyncValue() throws Exception {
+        HasValue<Integer> src = Values.newHasValue(1);
+        HasValue<Integer> res = Values.newHasValue();
+        TestWeakSyncLink<Integer> link = new TestWeakSyncLink<>(src, res, weakContext(true));
+
+        res.setValue(5);
+        assertEquals(new Integer(5), src.getValue());
+
+        GetValue<Integer> mid = res.map(x -> x * 2);
+        HasValue<Integer> mapped = Values.newHasValue();
+        mid.flow().to(mapped);
+
+        link.getWeakFrom().clear();
+
+        res.setValue(6);
+        assertEquals(new Integer(12), mapped.getValue());
+        assertEquals(new Integer(5), src.getValue());
+
+        // Listener of collected value has been removed, the other side of the link still works
+        src.setValue(7);
+        assertEquals(new Integer(7), res.getValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConsumer() throws Exception {
+        HasValue<Integer> src = Values.newHasValue(1);
+        src.flow().weak().to(value -> {
+        });
+    }
+
+    private static Context weakContext(boolean sync) {
+        Context context = new Context();
+        context.setWeak(true);
+        context.setSync(sync);
+        return context;
+    }
+
+    private static class TestWeakLink<A> extends SimpleLink<A> {
+        private TestWeakLink(GetValue<A> from, HasValue<A> to, Context context) {
+            super(from, to, context);
+        }
+
+        private HasValue<A> getTo() {
+            return to;
+        }
+
+        private WeakTarget<A> getWeakTo() {
+            return weakTo;
+        }
+    }
+
+    private static class TestWeakSyncLink<A> extends SyncLink<A> {
+        private TestWeakSyncLink(HasValue<A> from, HasValue<A> to, Context context) {
+            super(from, to, context);
+        }
+
+        private HasValue<A> getFrom() {
+            return from;
+        }
+
+        private HasValue<A> getTo() {
+            return to;
+        }
+
+        private WeakTarget<A> getWeakFrom() {
+            return weakFrom;
+        }
+    }
+
+    private static void assertDisposed(GetValue<?> value) {
+        try {
+            value.getValue();
+            fail("Value must be disposed");
+        } catch (IllegalStateException e) {
+            assertEquals("Value is disposed", e.getMessage());
+        }
+    }
+}
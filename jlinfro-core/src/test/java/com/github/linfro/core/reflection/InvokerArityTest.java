@@ -0,0 +1,126 @@
+package com.github.linfro.core.reflection;
+
+import org.junit.Test;
+import org.junit.experimental.theories.DataPoints;
+import org.junit.experimental.theories.Theories;
+import org.junit.experimental.theories.Theory;
+import org.junit.runner.RunWith;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+@RunWith(Theories.class)
+public class InvokerArityTest {
+    @DataPoints
+    public static InvokerFactory[] FACTORIES = new InvokerFactory[]{
+            new ReflectiveInvokerFactory(),
+            new DynamicInvokerFactory(),
+            new LambdaInvokerFactory()
+    };
+
+    @Theory
+    public void testMethodInvoke0(InvokerFactory factory) throws Exception {
+        Method method = MethodsBean.class.getMethod("getPrimInt");
+        Invoker invoker = factory.createMethodInvoker(method);
+
+        MethodsBean bean = new MethodsBean();
+        bean.setPrimInt(12);
+        assertEquals(12, invoker.invoke0(bean));
+        assertEquals(invoker.invoke(bean), invoker.invoke0(bean));
+
+        assertInvalidCount(() -> invoker.invoke1(bean, 1), "Invalid arguments count: expected 0 but found 1 arguments");
+    }
+
+    @Theory
+    public void testMethodInvoke1(InvokerFactory factory) throws Exception {
+        Method method = MethodsBean.class.getMethod("setPrimInt", int.class);
+        Invoker invoker = factory.createMethodInvoker(method);
+
+        MethodsBean bean = new MethodsBean();
+        assertNull(invoker.invoke1(bean, 34));
+        assertEquals(34, bean.getPrimInt());
+
+        // Null is replaced by default value of primitive type
+        invoker.invoke1(bean, null);
+        assertEquals(0, bean.getPrimInt());
+
+        invoker.invoke1(bean, 56);
+        assertEquals(56, bean.getPrimInt());
+
+        assertInvalidCount(() -> invoker.invoke0(bean), "Invalid arguments count: expected 1 but found 0 arguments");
+    }
+
+    @Theory
+    public void testMethodInvokeWrapper(InvokerFactory factory) throws Exception {
+        Method method = MethodsBean.class.getMethod("setWrapString", String.class);
+        Invoker invoker = factory.createMethodInvoker(method);
+
+        MethodsBean bean = new MethodsBean();
+        invoker.invoke1(bean, "abc");
+        assertEquals("abc", bean.getWrapString());
+
+        invoker.invoke1(bean, null);
+        assertNull(bean.getWrapString());
+    }
+
+    @Theory
+    public void testFieldInvoke(InvokerFactory factory) throws Exception {
+        Field field = FieldsBean.class.getField("primLong");
+        Invoker getter = factory.createGetterInvoker(field);
+        Invoker setter = factory.createSetterInvoker(field);
+
+        FieldsBean bean = new FieldsBean();
+        setter.invoke1(bean, 78L);
+        assertEquals(78L, getter.invoke0(bean));
+
+        setter.invoke1(bean, null);
+        assertEquals(0L, getter.invoke0(bean));
+
+        assertInvalidCount(() -> getter.invoke1(bean, 1L), "Invalid arguments count: expected 0 but found 1 arguments");
+        assertInvalidCount(() -> setter.invoke0(bean), "Invalid arguments count: expected 1 but found 0 arguments");
+    }
+
+    @Theory
+    public void testNullBean(InvokerFactory factory) throws Exception {
+        Invoker invoker = factory.createMethodInvoker(MethodsBean.class.getMethod("getPrimInt"));
+        try {
+            invoker.invoke0(null);
+            fail("Null bean must be rejected");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testInvalidInvoker() throws Exception {
+        Invoker invoker = new InvalidInvoker("Invalid");
+        try {
+            invoker.invoke0(new Object());
+            fail("Invalid invoker must fail");
+        } catch (IllegalStateException e) {
+            assertEquals("Invalid", e.getMessage());
+        }
+        try {
+            invoker.invoke1(new Object(), 1);
+            fail("Invalid invoker must fail");
+        } catch (IllegalStateException e) {
+            assertEquals("Invalid", e.getMessage());
+        }
+    }
+
+    private static void assertInvalidCount(Runnable call, String message) {
+        try {
+            call.run();
+            fail("Invalid arguments count must be detected");
+        } catch (IllegalArgumentException e) {
+            assertEquals(message, e.getMessage());
+        }
+    }
+}
@@ -17,7 +17,7 @@ import static org.junit.Assert.*;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-14
+ * @version 2026-10-18
  * @since 1.0.0
  */
 @RunWith(Theories.class)
@@ -70,11 +70,13 @@ public class InvokerFieldTest {
 
         assertEquals(new Integer(fieldsCount * 2), factoryCounter.get(ReflectiveInvokerFactory.class));
         assertEquals(new Integer(fieldsCount * 2), factoryCounter.get(DynamicInvokerFactory.class));
+        assertEquals(new Integer(fieldsCount * 2), factoryCounter.get(LambdaInvokerFactory.class));
 
         assertEquals(new Integer(fieldsCount), invokerCounter.get(ReflectiveGetterInvoker.class));
         assertEquals(new Integer(fieldsCount), invokerCounter.get(ReflectiveSetterInvoker.class));
-        assertEquals(new Integer(fieldsCount), invokerCounter.get(DynamicGetterInvoker.class));
-        assertEquals(new Integer(fieldsCount), invokerCounter.get(DynamicSetterInvoker.class));
+        // Lambda invoker factory delegates fields to dynamic invoker factory
+        assertEquals(new Integer(fieldsCount * 2), invokerCounter.get(DynamicGetterInvoker.class));
+        assertEquals(new Integer(fieldsCount * 2), invokerCounter.get(DynamicSetterInvoker.class));
 
         clearStatistics();
     }
@@ -90,7 +92,8 @@ public class InvokerFieldTest {
     @DataPoints
     public static InvokerFactory[][] FACTORIES = new InvokerFactory[][]{
             {new ReflectiveInvokerFactory()},
-            {new DynamicInvokerFactory()}
+            {new DynamicInvokerFactory()},
+            {new LambdaInvokerFactory()}
     };
 
     // *************************** Boolean *****************************************************************************
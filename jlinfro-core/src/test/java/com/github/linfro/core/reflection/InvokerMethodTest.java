@@ -17,7 +17,7 @@ import static org.junit.Assert.*;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-12
+ * @version 2026-10-18
  * @since 1.0.0
  */
 @RunWith(Theories.class)
@@ -70,9 +70,12 @@ public class InvokerMethodTest {
 
         assertEquals(new Integer(fieldsCount * 2), factoryCounter.get(ReflectiveInvokerFactory.class));
         assertEquals(new Integer(fieldsCount * 2), factoryCounter.get(DynamicInvokerFactory.class));
+        assertEquals(new Integer(fieldsCount * 2), factoryCounter.get(LambdaInvokerFactory.class));
 
         assertEquals(new Integer(fieldsCount * 2), invokerCounter.get(ReflectiveMethodInvoker.class));
         assertEquals(new Integer(fieldsCount * 2), invokerCounter.get(DynamicMethodInvoker.class));
+        assertEquals(new Integer(fieldsCount), invokerCounter.get(LambdaGetterInvoker.class));
+        assertEquals(new Integer(fieldsCount), invokerCounter.get(LambdaSetterInvoker.class));
 
         clearStatistics();
     }
@@ -88,7 +91,8 @@ public class InvokerMethodTest {
     @DataPoints
     public static InvokerFactory[][] FACTORIES = new InvokerFactory[][]{
             {new ReflectiveInvokerFactory()},
-            {new DynamicInvokerFactory()}
+            {new DynamicInvokerFactory()},
+            {new LambdaInvokerFactory()}
     };
 
     // *************************** Boolean *****************************************************************************
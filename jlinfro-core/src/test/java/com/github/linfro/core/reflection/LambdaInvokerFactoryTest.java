@@ -0,0 +1,69 @@
+package com.github.linfro.core.reflection;
+
+import org.junit.Test;
+
+import java.beans.PropertyChangeListener;
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class LambdaInvokerFactoryTest {
+    static class HiddenBean {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+        LambdaInvokerFactory factory = new LambdaInvokerFactory(new ReflectiveInvokerFactory());
+
+        // Class is not public
+        Method getter = HiddenBean.class.getMethod("getName");
+        Invoker invoker = factory.createMethodInvoker(getter);
+        assertEquals(ReflectiveMethodInvoker.class, invoker.getClass());
+
+        HiddenBean bean = new HiddenBean();
+        factory.createMethodInvoker(HiddenBean.class.getMethod("setName", String.class)).invoke(bean, "test");
+        assertEquals("test", invoker.invoke(bean));
+
+        // Neither getter nor setter
+        Method method = MethodsBean.class.getMethod("addPropertyChangeListener", String.class,
+                PropertyChangeListener.class);
+        assertEquals(ReflectiveMethodInvoker.class, factory.createMethodInvoker(method).getClass());
+
+        assertEquals(ReflectiveGetterInvoker.class,
+                factory.createGetterInvoker(FieldsBean.class.getField("primInt")).getClass());
+    }
+
+    @Test
+    public void testException() throws Exception {
+        Invoker invoker = new LambdaInvokerFactory().createMethodInvoker(TestBean.class.getMethod("toString"));
+        assertEquals(LambdaGetterInvoker.class, invoker.getClass());
+
+        try {
+            invoker.invoke(null);
+            fail("Bean must not be null");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+
+        try {
+            invoker.invoke(new TestBean(), "arg");
+            fail("Invalid arguments count");
+        } catch (IllegalArgumentException e) {
+            assertEquals("Invalid arguments count: expected 0 but found 1 arguments", e.getMessage());
+        }
+    }
+}
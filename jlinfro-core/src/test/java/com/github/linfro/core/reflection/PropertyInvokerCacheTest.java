@@ -0,0 +1,93 @@
+package com.github.linfro.core.reflection;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class PropertyInvokerCacheTest {
+    @Test
+    public void testSameInvoker() throws Exception {
+        InvokerFactory factory = new ReflectiveInvokerFactory();
+
+        PropertyInvoker first = PropertyInvokerCache.getPropertyInvoker(TestRootBean.class, "first.second.value", factory);
+        PropertyInvoker second = PropertyInvokerCache.getPropertyInvoker(TestRootBean.class, "first.second.value", factory);
+        assertSame(first, second);
+        assertNotSame(first, PropertyInvokerCache.getPropertyInvoker(TestAnotherBean.class, "first.second.value", factory));
+        assertNotSame(first, PropertyInvokerCache.getPropertyInvoker(TestRootBean.class, "first.second", factory));
+        assertNotSame(first, PropertyInvokerCache.getPropertyInvoker(TestRootBean.class, "first.second.value",
+                new ReflectiveInvokerFactory()));
+
+        assertSame(
+                PropertyInvokerCache.getSimplePropertyInvoker(FieldsBean.class, "wrapString", factory),
+                PropertyInvokerCache.getSimplePropertyInvoker(FieldsBean.class, "wrapString", factory)
+        );
+    }
+
+    @Test
+    public void testIntrospectionShared() throws Exception {
+        InvokerFactoryDecorator factory = new InvokerFactoryDecorator(new ReflectiveInvokerFactory());
+
+        new CompositePropertyInvoker(TestRootBean.class, "first.second.value", factory);
+        int methodCount = factory.getMethodCount();
+        assertTrue(methodCount > 0);
+
+        // Simple invokers of the chain are taken from cache
+        new CompositePropertyInvoker(TestRootBean.class, "first.second", factory);
+        new CompositePropertyInvoker(TestRootBean.class, "first.second.value", factory);
+        assertEquals(methodCount, factory.getMethodCount());
+    }
+
+    @Test
+    public void testAnonymousInvoker() throws Exception {
+        InvokerFactory factory = new ReflectiveInvokerFactory();
+        AnonymousPropertyInvoker first = new AnonymousPropertyInvoker("wrapString", factory);
+        AnonymousPropertyInvoker second = new AnonymousPropertyInvoker("wrapString", factory);
+        assertSame(first.getPropertyInvoker(MethodsBean.class), second.getPropertyInvoker(MethodsBean.class));
+
+        MethodsBean bean = new MethodsBean();
+        first.setPropertyValue(bean, "Cached");
+        assertEquals("Cached", second.getPropertyValue(bean));
+    }
+
+    @Test
+    public void testConcurrentLookup() throws Exception {
+        InvokerFactory factory = new ReflectiveInvokerFactory();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<PropertyInvoker>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return PropertyInvokerCache.getPropertyInvoker(TestAnotherBean.class, "first.readOnly.value", factory);
+                }));
+            }
+            start.countDown();
+
+            PropertyInvoker expected = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<PropertyInvoker> future : futures) {
+                assertSame(expected, future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        InvokerFactory factory = new ReflectiveInvokerFactory();
+        PropertyInvoker invoker = PropertyInvokerCache.getPropertyInvoker(FieldsBean.class, "primInt", factory);
+        PropertyInvokerCache.clear(FieldsBean.class);
+        assertNotSame(invoker, PropertyInvokerCache.getPropertyInvoker(FieldsBean.class, "primInt", factory));
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.HasValue;
+import com.github.linfro.core.Values;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class BooleanAggregateValueTest {
+    @Test
+    public void testAnd() throws Exception {
+        GetAndValue and = Values.newAndValue();
+        TestListener listener = new TestListener();
+        and.addChangeListener(listener);
+        assertFalse(and.getValue());
+
+        HasValue<Boolean> a = and.newArgument();
+        HasValue<Boolean> b = and.newArgument();
+        assertFalse(and.getValue());
+        assertEquals(0, listener.getCounter());
+
+        a.setValue(true);
+        assertFalse(and.getValue());
+        assertEquals(0, listener.getCounter());
+
+        b.setValue(true);
+        assertTrue(and.getValue());
+        assertEquals(1, listener.getCounter());
+
+        b.setValue(true);
+        assertEquals(1, listener.getCounter());
+
+        HasValue<Boolean> c = and.newArgument();
+        assertFalse(and.getValue());
+        assertEquals(2, listener.getCounter());
+
+        c.dispose();
+        assertTrue(and.getValue());
+        assertEquals(3, listener.getCounter());
+
+        c.setValue(false);
+        assertTrue(and.getValue());
+        assertEquals(2, and.getArgumentCount());
+        assertEquals(2, and.getTrueCount());
+
+        a.dispose();
+        b.dispose();
+        assertFalse(and.getValue());
+        assertEquals(4, listener.getCounter());
+    }
+
+    @Test
+    public void testOr() throws Exception {
+        GetOrValue or = Values.newOrValue();
+        TestListener listener = new TestListener();
+        or.addChangeListener(listener);
+
+        HasValue<Boolean> a = or.newArgument();
+        HasValue<Boolean> b = or.newArgument();
+        assertFalse(or.getValue());
+
+        a.setValue(true);
+        b.setValue(true);
+        assertTrue(or.getValue());
+        assertEquals(1, listener.getCounter());
+
+        a.setValue(null);
+        assertTrue(or.getValue());
+        assertEquals(1, listener.getCounter());
+
+        b.dispose();
+        assertFalse(or.getValue());
+        assertEquals(2, listener.getCounter());
+    }
+
+    @Test
+    public void testIterator() throws Exception {
+        GetOrValue or = new GetOrValue(Boolean.FALSE);
+        HasValue<Boolean> a = or.newArgument();
+        HasValue<Boolean> b = or.newArgument();
+        HasValue<Boolean> c = or.newArgument();
+        b.setValue(true);
+        c.setValue(null);
+
+        List<Boolean> values = new ArrayList<>();
+        or.forEach(values::add);
+        assertEquals(Arrays.asList(false, true, null), values);
+
+        b.dispose();
+        values.clear();
+        or.forEach(values::add);
+        assertEquals(Arrays.asList(false, null), values);
+
+        a.dispose();
+        c.dispose();
+        assertFalse(or.iterator().hasNext());
+    }
+
+    @Test
+    public void testFlow() throws Exception {
+        HasValue<Boolean> a = Values.newHasValue(false);
+        HasValue<Boolean> b = Values.newHasValue(false);
+        HasValue<Boolean> valid = Values.newHasValue();
+
+        GetAndValue and = Values.newAndValue();
+        a.flow().force().to(and);
+        b.flow().force().to(and);
+        and.flow().force().to(valid);
+        assertFalse(valid.getValue());
+
+        a.setValue(true);
+        b.setValue(true);
+        assertTrue(valid.getValue());
+    }
+
+    @Test
+    public void testIncrementalAggregators() throws Exception {
+        DefaultGetAggregateValue<Boolean> and = Values.andValue();
+        DefaultGetAggregateValue<Boolean> or = Values.orValue();
+        assertFalse(and.getValue());
+        assertFalse(or.getValue());
+
+        HasValue<Boolean> a1 = and.newArgument();
+        HasValue<Boolean> o1 = or.newArgument();
+        assertFalse(and.getValue());
+        assertFalse(or.getValue());
+
+        a1.setValue(true);
+        o1.setValue(true);
+        assertTrue(and.getValue());
+        assertTrue(or.getValue());
+
+        HasValue<Boolean> a2 = and.newArgument();
+        HasValue<Boolean> o2 = or.newArgument();
+        assertFalse(and.getValue());
+        assertTrue(or.getValue());
+
+        a2.dispose();
+        o1.setValue(null);
+        assertTrue(and.getValue());
+        assertFalse(or.getValue());
+        assertEquals(Boolean.FALSE, ValueUtil.AGGREGATOR_AND.aggregate(Arrays.asList(true, null)));
+        assertEquals(Boolean.TRUE, ValueUtil.AGGREGATOR_OR.aggregate(Arrays.asList(null, true)));
+    }
+}
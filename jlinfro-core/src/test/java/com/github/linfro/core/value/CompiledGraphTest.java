@@ -0,0 +1,135 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetValue;
+import com.github.linfro.core.HasValue;
+import com.github.linfro.core.Values;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class CompiledGraphTest {
+    @Test
+    public void testDiamond() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue(1);
+        GetValue<Integer> b = a.map(x -> x * 10);
+        GetValue<Integer> c = a.map(x -> x * 100);
+        GetValue<String> d = b.join(c, (x, y) -> x + "_" + y);
+
+        List<String> log = new ArrayList<>();
+        d.flow().to(log::add);
+
+        CompiledGraph graph = Values.compile(a);
+        assertEquals(4, graph.size());
+        assertEquals(0, a.modes.planIndex);
+        assertEquals(3, ((AbstractGetValue<?>) d).modes.planIndex);
+
+        a.setValue(2);
+        a.setValue(3);
+        assertEquals(Arrays.asList("20_200", "30_300"), log);
+        assertFalse(graph.isReleased());
+    }
+
+    @Test
+    public void testUnevenDiamond() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue(1);
+        DefaultHasValue<Integer> other = Values.newHasValue(0);
+        GetValue<Integer> deep = a.map(x -> x + 1).strong().map(x -> x * 2).strong().map(x -> x - 1);
+        // Join is marked by the source before the long branch is fired, but is fired after it
+        GetValue<String> join = a.join(deep, (x, y) -> x + "_" + y);
+        GetValue<String> otherJoin = other.join(join, (x, y) -> x + ":" + y);
+
+        List<String> log = new ArrayList<>();
+        join.flow().to(log::add);
+        List<String> otherLog = new ArrayList<>();
+        otherJoin.flow().to(otherLog::add);
+
+        Values.compile(a, other);
+        a.setValue(2);
+        a.setValue(5);
+        other.setValue(7);
+        assertEquals(Arrays.asList("2_5", "5_11"), log);
+        assertEquals(Arrays.asList("0:2_5", "0:5_11", "7:5_11"), otherLog);
+    }
+
+    @Test
+    public void testStrongPrunesGraph() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(0);
+        GetValue<Boolean> even = a.map(x -> x % 2 == 0).strong();
+        List<String> log = new ArrayList<>();
+        even.map(x -> x ? "even" : "odd").flow().to(log::add);
+
+        Values.compile(a);
+        a.setValue(2);
+        a.setValue(4);
+        a.setValue(5);
+        a.setValue(7);
+        a.setValue(8);
+        assertEquals(Arrays.asList("odd", "even"), log);
+    }
+
+    @Test
+    public void testLongChain() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(0);
+        GetValue<Integer> value = a;
+        for (int i = 0; i < 2000; i++) {
+            value = new GetTransformedValue<>(value, x -> x + 1);
+        }
+        HasValue<Integer> res = Values.newHasValue();
+        value.flow().to(res);
+
+        CompiledGraph graph = Values.compile(a);
+        assertEquals(2001, graph.size());
+
+        a.setValue(1);
+        assertEquals(new Integer(2001), res.getValue());
+    }
+
+    @Test
+    public void testReleaseOnChange() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(0);
+        GetValue<Integer> b = a.map(x -> x + 1);
+        HasValue<Integer> res = Values.newHasValue();
+        b.flow().to(res);
+
+        CompiledGraph graph = Values.compile(a);
+        a.setValue(1);
+        assertEquals(new Integer(2), res.getValue());
+
+        HasValue<Integer> other = Values.newHasValue();
+        b.flow().to(other);
+        assertTrue(graph.isReleased());
+
+        a.setValue(2);
+        assertEquals(new Integer(3), res.getValue());
+        assertEquals(new Integer(3), other.getValue());
+    }
+
+    @Test
+    public void testNestedChange() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(0);
+        HasValue<Integer> b = Values.newHasValue(0);
+        HasValue<Integer> sum = Values.newHasValue();
+        a.join(b, (x, y) -> x + y).flow().to(sum);
+
+        // Feedback: change of a is copied to b inside of compiled propagation
+        a.flow().to(b);
+
+        CompiledGraph graph = Values.compile(a, b);
+        a.setValue(5);
+        assertEquals(new Integer(10), sum.getValue());
+
+        graph.dispose();
+        assertTrue(graph.isReleased());
+        a.setValue(6);
+        assertEquals(new Integer(12), sum.getValue());
+    }
+}
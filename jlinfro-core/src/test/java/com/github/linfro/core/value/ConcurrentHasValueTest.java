@@ -0,0 +1,125 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.HasValue;
+import com.github.linfro.core.Values;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class ConcurrentHasValueTest {
+    private static final int THREADS = 4;
+    private static final int ITERATIONS = 10000;
+
+    @Test
+    public void testAtomicOperations() throws Exception {
+        ConcurrentHasValue<Integer> a = Values.newConcurrentHasValue(1);
+        TestListener listener = new TestListener();
+        a.addChangeListener(listener);
+
+        assertFalse(a.compareAndSet(2, 3));
+        assertEquals(0, listener.getCounter());
+
+        assertTrue(a.compareAndSet(a.getValue(), 3));
+        assertEquals(new Integer(3), a.getValue());
+        assertEquals(1, listener.getCounter());
+
+        assertEquals(new Integer(3), a.getAndSet(4));
+        assertEquals(new Integer(5), a.updateAndGet(x -> x + 1));
+        assertEquals(new Integer(5), a.getAndUpdate(x -> x * 2));
+        assertEquals(new Integer(10), a.getValue());
+        assertEquals(4, listener.getCounter());
+    }
+
+    @Test
+    public void testDSL() throws Exception {
+        ConcurrentHasValue<Integer> a = Values.newConcurrentHasValue(1);
+        HasValue<String> b = Values.newHasValue();
+
+        a.map(Object::toString).flow().force().to(b);
+        assertEquals("1", b.getValue());
+
+        a.setValue(2);
+        assertEquals("2", b.getValue());
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+        ConcurrentHasValue<Integer> a = Values.newConcurrentHasValue(0);
+        AtomicInteger inProgress = new AtomicInteger();
+        AtomicInteger maxInProgress = new AtomicInteger();
+        List<Integer> lastSeen = new ArrayList<>(1);
+        lastSeen.add(null);
+
+        a.addChangeListener(getter -> {
+            maxInProgress.accumulateAndGet(inProgress.incrementAndGet(), Math::max);
+            lastSeen.set(0, getter.getValue());
+            inProgress.decrementAndGet();
+        });
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                for (int j = 0; j < ITERATIONS; j++) {
+                    a.updateAndGet(x -> x + 1);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(new Integer(THREADS * ITERATIONS), a.getValue());
+        assertEquals(new Integer(THREADS * ITERATIONS), lastSeen.get(0));
+        assertEquals(1, maxInProgress.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCallLoop() throws Exception {
+        ConcurrentHasValue<Integer> a = Values.newConcurrentHasValue(0);
+        a.addChangeListener(getter -> a.setValue(getter.getValue() + 1));
+        a.setValue(1);
+    }
+
+    @Test
+    public void testListenerFailure() throws Exception {
+        ConcurrentHasValue<Integer> a = Values.newConcurrentHasValue(0);
+        TestListener listener = new TestListener();
+        a.addChangeListener(getter -> {
+            if (getter.getValue() < 0) {
+                throw new IllegalArgumentException();
+            }
+        });
+        a.addChangeListener(listener);
+
+        try {
+            a.setValue(-1);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+
+        a.setValue(1);
+        assertEquals(1, listener.getCounter());
+    }
+}
@@ -0,0 +1,151 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetValue;
+import com.github.linfro.core.Getter;
+import com.github.linfro.core.HasValue;
+import com.github.linfro.core.ValueChangeListener;
+import com.github.linfro.core.Values;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class FireEventTest {
+    @Test
+    public void testListenersOrder() throws Exception {
+        HasValue<Integer> a = Values.newHasValue();
+        StringBuilder order = new StringBuilder();
+
+        for (int i = 0; i < 4; i++) {
+            final int index = i;
+            a.addChangeListener(getter -> order.append(index));
+        }
+
+        a.setValue(1);
+        assertEquals("0123", order.toString());
+    }
+
+    @Test
+    public void testAddListenerDuringFire() throws Exception {
+        HasValue<Integer> a = Values.newHasValue();
+        TestListener added = new TestListener();
+
+        a.addChangeListener(new ValueChangeListener<Integer>() {
+            @Override
+            public void valueChanged(Getter<? extends Integer> getter) {
+                a.removeChangeListener(this);
+                a.addChangeListener(added);
+            }
+        });
+
+        a.setValue(1);
+        assertEquals(0, added.getCounter());
+
+        a.setValue(2);
+        assertEquals(1, added.getCounter());
+    }
+
+    @Test
+    public void testRemoveListenerDuringFire() throws Exception {
+        HasValue<Integer> a = Values.newHasValue();
+        TestListener first = new TestListener();
+        TestListener second = new TestListener();
+
+        a.addChangeListener(first);
+        a.addChangeListener(getter -> a.removeChangeListener(second));
+        a.addChangeListener(second);
+
+        a.setValue(1);
+        assertEquals(1, first.getCounter());
+        assertEquals(1, second.getCounter());
+
+        a.setValue(2);
+        assertEquals(2, first.getCounter());
+        assertEquals(1, second.getCounter());
+    }
+
+    @Test
+    public void testRemoveFirstOccurrence() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue();
+        TestListener listener = new TestListener();
+
+        a.addChangeListener(listener);
+        a.addChangeListener(listener);
+        a.removeChangeListener(listener);
+        assertTrue(a.hasListeners());
+
+        a.setValue(1);
+        assertEquals(1, listener.getCounter());
+
+        a.removeChangeListener(listener);
+        assertFalse(a.hasListeners());
+
+        a.setValue(2);
+        assertEquals(1, listener.getCounter());
+    }
+
+    @Test
+    public void testListenerList() throws Exception {
+        DefaultHasValue<Integer> a = Values.newHasValue();
+        TestListener first = new TestListener();
+        TestListener second = new TestListener();
+
+        List<ValueChangeListener<? super Integer>> list = a.getListeners();
+        assertTrue(list.isEmpty());
+
+        a.addChangeListener(first);
+        list.add(second);
+        assertEquals(Arrays.asList(first, second), list);
+
+        a.setValue(1);
+        assertEquals(1, first.getCounter());
+        assertEquals(1, second.getCounter());
+
+        list.remove(first);
+        assertEquals(Collections.singletonList(second), a.getListeners());
+
+        a.setValue(2);
+        assertEquals(1, first.getCounter());
+        assertEquals(2, second.getCounter());
+
+        list.clear();
+        assertFalse(a.hasListeners());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCallLoop() throws Exception {
+        HasValue<Integer> a = Values.newHasValue();
+        a.addChangeListener(getter -> a.setValue(2));
+        a.setValue(1);
+    }
+
+    @Test
+    public void testPlainValueHasNoModes() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(1);
+        GetValue<Integer> b = a.map(x -> x + 1);
+        TestListener listener = new TestListener();
+        b.addChangeListener(listener);
+
+        AbstractGetValue<?> value = (AbstractGetValue<?>) a;
+        value.setGlitchFree(false);
+        value.setLazy(false);
+        value.setMaxReentrantIterations(0);
+        a.setValue(2);
+
+        assertEquals(1, listener.getCounter());
+        assertNull(value.modes);
+        assertNull(((AbstractGetValue<?>) b).modes);
+
+        value.setLazy(true);
+        assertNotNull(value.modes);
+        assertTrue(((AbstractGetValue<?>) a.map(x -> x)).isLazy());
+    }
+}
@@ -0,0 +1,238 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetValue;
+import com.github.linfro.core.HasValue;
+import com.github.linfro.core.Values;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.linfro.core.value.TestUtil.assertDisposed;
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class FusionTest {
+    @Test
+    public void testChainIsFused() throws Exception {
+        DefaultHasValue<String> a = Values.newHasValue("abc");
+        GetValue<Integer> res = a.mapNotNull(String::length).nvl(-1).filter(x -> x != 0).strong();
+
+        assertTrue(res instanceof GetFusedValue);
+        assertEquals(1, ((GetFusedValue<?, ?>) res).getRank());
+
+        TestListener listener = new TestListener();
+        res.addChangeListener(listener);
+        assertTrue(res.isValueValid());
+        assertEquals(new Integer(3), res.getValue());
+
+        a.setValue("xyz");
+        assertEquals(0, listener.getCounter());
+
+        a.setValue(null);
+        assertTrue(res.isValueValid());
+        assertEquals(new Integer(-1), res.getValue());
+        assertEquals(1, listener.getCounter());
+
+        a.setValue("");
+        assertFalse(res.isValueValid());
+        assertNull(res.getValue());
+        assertEquals(2, listener.getCounter());
+    }
+
+    @Test
+    public void testSameAsUnfused() throws Exception {
+        HasValue<Integer> a = Values.newHasValue();
+        GetValue<Integer> fused = a.filter(x -> x != null).map(x -> x * 2).filter(x -> x > 0).nvl(0);
+
+        GetValue<Integer> step = new GetFilteredValue<>(a, x -> x != null);
+        step = new GetTransformedValue<>(step, x -> x * 2);
+        step = new GetFilteredValue<>(step, x -> x > 0);
+        GetValue<Integer> plain = new GetTransformedValue<>(step, x -> x == null ? 0 : x);
+
+        List<Integer> fusedLog = new ArrayList<>();
+        List<Integer> plainLog = new ArrayList<>();
+        fused.flow().force().to(fusedLog::add);
+        plain.flow().force().to(plainLog::add);
+
+        for (Integer value : Arrays.asList(1, null, -3, 5, 0, 7)) {
+            a.setValue(value);
+            assertEquals(plain.isValueValid(), fused.isValueValid());
+            if (plain.isValueValid()) {
+                assertEquals(plain.getValue(), fused.getValue());
+            }
+        }
+        assertEquals(plainLog, fusedLog);
+        assertEquals(Arrays.asList(2, 10, 14), fusedLog);
+    }
+
+    @Test
+    public void testDetachedIntermediate() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(1);
+        GetValue<Integer> mid = a.map(x -> x + 1);
+        GetValue<Integer> res = mid.map(x -> x * 10);
+        assertTrue(res instanceof GetFusedValue);
+
+        a.setValue(2);
+        assertEquals(new Integer(3), mid.getValue());
+        assertEquals(new Integer(30), res.getValue());
+        assertFalse(mid.canDispose());
+
+        TestListener listener = new TestListener();
+        mid.addChangeListener(listener);
+        a.setValue(3);
+        assertEquals(1, listener.getCounter());
+        assertEquals(new Integer(4), mid.getValue());
+        assertEquals(new Integer(40), res.getValue());
+
+        // Value with listeners is not fused
+        GetValue<Integer> other = mid.map(x -> -x);
+        assertTrue(other instanceof GetTransformedValue);
+        assertEquals(new Integer(-4), other.getValue());
+    }
+
+    @Test
+    public void testDispose() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(1);
+        GetValue<Integer> first = a.map(x -> x + 1);
+        GetValue<Integer> second = first.filter(x -> x > 0);
+        GetValue<Integer> res = second.map(x -> x * 10);
+        assertTrue(res.canDispose());
+
+        res.dispose();
+        assertEquals(new Integer(1), a.getValue());
+        assertDisposed(first::getValue);
+        assertDisposed(second::isValueValid);
+        assertDisposed(res::getValue);
+    }
+
+    @Test
+    public void testDisposeFusedIntermediate() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(1);
+        GetValue<Integer> mid = a.map(x -> x + 1);
+        GetValue<Integer> res = mid.map(x -> x * 10);
+        List<Integer> log = new ArrayList<>();
+        res.flow().to(log::add);
+
+        TestListener listener = new TestListener();
+        mid.addChangeListener(listener);
+        assertFalse(mid.canDispose());
+
+        // Owner still depends on the source of the fused value
+        mid.dispose();
+        a.setValue(2);
+        assertEquals(0, listener.getCounter());
+        assertEquals(new Integer(3), mid.getValue());
+        assertEquals(new Integer(30), res.getValue());
+        assertEquals(Arrays.asList(30), log);
+
+        res.dispose();
+        assertDisposed(mid::getValue);
+        assertDisposed(res::getValue);
+    }
+
+    @Test
+    public void testFilterGuardsFunction() throws Exception {
+        HasValue<String> a = Values.newHasValue();
+        GetValue<Integer> res = a.filter(s -> s != null).map(String::length);
+        assertFalse(res.isValueValid());
+
+        a.setValue("four");
+        assertTrue(res.isValueValid());
+        assertEquals(new Integer(4), res.getValue());
+    }
+
+    @Test
+    public void testUnfuseOnListener() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        HasValue<Integer> a = Values.newHasValue(1);
+        GetValue<Integer> mid = a.map(x -> {
+            calls.incrementAndGet();
+            return x + 1;
+        });
+        GetValue<Integer> res = mid.map(x -> x * 10);
+        assertTrue(res instanceof GetFusedValue);
+
+        List<Integer> log = new ArrayList<>();
+        res.flow().to(log::add);
+        List<Integer> midLog = new ArrayList<>();
+        mid.flow().to(midLog::add);
+
+        // Function of the intermediate value is run once per change
+        calls.set(0);
+        a.setValue(2);
+        assertEquals(1, calls.get());
+        assertEquals(Arrays.asList(30), log);
+        assertEquals(Arrays.asList(3), midLog);
+        assertEquals(2, ((GetFusedValue<?, ?>) res).getRank());
+
+        res.dispose();
+        a.setValue(3);
+        assertEquals(Arrays.asList(30), log);
+        assertEquals(Arrays.asList(3, 4), midLog);
+    }
+
+    @Test
+    public void testUnfuseOnSecondMap() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        HasValue<Integer> a = Values.newHasValue(1);
+        GetValue<Integer> mid = a.map(x -> {
+            calls.incrementAndGet();
+            return x + 1;
+        });
+        GetValue<Integer> first = mid.map(x -> x * 10).strong();
+        GetValue<Integer> second = mid.map(x -> -x);
+        assertTrue(second instanceof GetTransformedValue);
+
+        List<Integer> log = new ArrayList<>();
+        first.flow().to(log::add);
+        second.flow().to(log::add);
+
+        calls.set(0);
+        a.setValue(2);
+        assertEquals(1, calls.get());
+        assertEquals(Arrays.asList(30, -3), log);
+
+        // Dispose of owned intermediate value does not break its owner
+        mid.dispose();
+        a.setValue(3);
+        assertEquals(Arrays.asList(30, -3, 40), log);
+        assertEquals(new Integer(40), first.getValue());
+    }
+
+    @Test
+    public void testUnfuseChain() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        HasValue<Integer> a = Values.newHasValue(1);
+        GetValue<Integer> first = a.map(x -> {
+            calls.incrementAndGet();
+            return x + 1;
+        });
+        GetValue<Integer> second = first.filter(x -> x > 0);
+        GetValue<Integer> res = second.map(x -> x * 10);
+
+        List<Integer> log = new ArrayList<>();
+        res.flow().to(log::add);
+        List<Integer> firstLog = new ArrayList<>();
+        first.flow().to(firstLog::add);
+
+        calls.set(0);
+        a.setValue(-5);
+        assertEquals(1, calls.get());
+        assertFalse(res.isValueValid());
+        a.setValue(2);
+        assertEquals(2, calls.get());
+        assertEquals(Arrays.asList(30), log);
+        assertEquals(Arrays.asList(-4, 3), firstLog);
+
+        res.dispose();
+        assertDisposed(second::getValue);
+        assertEquals(new Integer(3), first.getValue());
+    }
+}
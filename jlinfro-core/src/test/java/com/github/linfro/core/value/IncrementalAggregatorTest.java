@@ -0,0 +1,154 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.GetAggregateValue;
+import com.github.linfro.core.HasValue;
+import com.github.linfro.core.Values;
+import com.github.linfro.core.common.IncrementalAggregator;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class IncrementalAggregatorTest {
+    @Test
+    public void testSumInt() throws Exception {
+        GetAggregateValue<Integer> sum = Values.sumIntValue();
+        TestListener listener = new TestListener();
+        sum.addChangeListener(listener);
+        assertEquals(new Integer(0), sum.getValue());
+
+        HasValue<Integer> a = sum.newArgument();
+        HasValue<Integer> b = sum.newArgument();
+        assertEquals(new Integer(0), sum.getValue());
+
+        a.setValue(5);
+        b.setValue(7);
+        assertEquals(new Integer(12), sum.getValue());
+
+        a.setValue(-1);
+        assertEquals(new Integer(6), sum.getValue());
+
+        b.dispose();
+        assertEquals(new Integer(-1), sum.getValue());
+
+        b.setValue(100);
+        assertEquals(new Integer(-1), sum.getValue());
+        assertEquals(6, listener.getCounter());
+    }
+
+    @Test
+    public void testSumLong() throws Exception {
+        GetAggregateValue<Long> sum = Values.sumLongValue();
+        sum.newArgument().setValue(Long.MAX_VALUE);
+        sum.newArgument().setValue(-1L);
+        assertEquals(new Long(Long.MAX_VALUE - 1), sum.getValue());
+    }
+
+    @Test
+    public void testSumDouble() throws Exception {
+        GetAggregateValue<Double> sum = Values.sumDoubleValue();
+        HasValue<Double> a = sum.newArgument();
+        HasValue<Double> b = sum.newArgument();
+
+        a.setValue(1.5);
+        b.setValue(Double.NaN);
+        assertTrue(Double.isNaN(sum.getValue()));
+
+        b.setValue(Double.POSITIVE_INFINITY);
+        assertEquals(Double.POSITIVE_INFINITY, sum.getValue(), 0.0);
+
+        b.setValue(2.5);
+        assertEquals(4.0, sum.getValue(), 0.0);
+    }
+
+    @Test
+    public void testSumDoubleNoDrift() throws Exception {
+        GetAggregateValue<Double> sum = Values.sumDoubleValue();
+        GetAggregateValue<Double> average = Values.averageDoubleValue();
+        HasValue<Double> a = sum.newArgument();
+        HasValue<Double> b = sum.newArgument();
+        HasValue<Double> c = average.newArgument();
+        HasValue<Double> d = average.newArgument();
+        a.setValue(0.1);
+        c.setValue(0.1);
+
+        // Every change removes old value and adds new one
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(20));
+            b.setValue(value);
+            d.setValue(value);
+        }
+
+        b.setValue(0.2);
+        d.setValue(0.2);
+        assertEquals(0.1 + 0.2, sum.getValue(), 1e-15);
+        assertEquals((0.1 + 0.2) / 2, average.getValue(), 1e-15);
+    }
+
+    @Test
+    public void testCountAndAverage() throws Exception {
+        GetAggregateValue<Integer> count = Values.countValue();
+        GetAggregateValue<Double> average = Values.averageDoubleValue();
+        assertEquals(new Integer(0), count.getValue());
+        assertNull(average.getValue());
+
+        HasValue<Integer> c1 = count.newArgument();
+        count.newArgument();
+        c1.setValue(10);
+        assertEquals(new Integer(1), count.getValue());
+
+        HasValue<Double> a1 = average.newArgument();
+        HasValue<Double> a2 = average.newArgument();
+        a1.setValue(1.0);
+        a2.setValue(2.0);
+        assertEquals(1.5, average.getValue(), 0.0);
+
+        a2.dispose();
+        assertEquals(1.0, average.getValue(), 0.0);
+    }
+
+    @Test
+    public void testAggregate() throws Exception {
+        IncrementalAggregator<Integer> aggregator = ValueUtil.AGGREGATOR_SUM_INT;
+        assertEquals(new Integer(6), aggregator.aggregate(Arrays.asList(1, 2, null, 3)));
+        assertEquals(new Integer(0), aggregator.aggregate(null));
+    }
+
+    @Test
+    public void testCustomAccumulator() throws Exception {
+        IncrementalAggregator<String> concat = () -> new IncrementalAggregator.Accumulator<String>() {
+            private int length = 0;
+
+            @Override
+            public void add(String value) {
+                length += value == null ? 0 : value.length();
+            }
+
+            @Override
+            public void remove(String value) {
+                length -= value == null ? 0 : value.length();
+            }
+
+            @Override
+            public String getResult() {
+                return "length=" + length;
+            }
+        };
+
+        GetAggregateValue<String> value = new DefaultGetAggregateValue<>(concat, "ab");
+        HasValue<String> a = value.newArgument();
+        value.newArgument();
+        assertEquals("length=4", value.getValue());
+
+        a.setValue("abcd");
+        assertEquals("length=6", value.getValue());
+    }
+}
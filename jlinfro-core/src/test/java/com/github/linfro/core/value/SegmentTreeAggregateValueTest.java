@@ -0,0 +1,116 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.HasValue;
+import com.github.linfro.core.Values;
+import com.github.linfro.core.common.AssociativeAggregator;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class SegmentTreeAggregateValueTest {
+    @Test
+    public void testMinMax() throws Exception {
+        SegmentTreeAggregateValue<Integer> min = Values.minValue();
+        SegmentTreeAggregateValue<Integer> max = Values.maxValue();
+        TestListener listener = new TestListener();
+        min.addChangeListener(listener);
+        assertNull(min.getValue());
+
+        List<HasValue<Integer>> minArgs = new ArrayList<>();
+        List<HasValue<Integer>> maxArgs = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            minArgs.add(min.newArgument());
+            maxArgs.add(max.newArgument());
+        }
+        assertNull(min.getValue());
+        assertEquals(0, listener.getCounter());
+
+        for (int i = 0; i < 20; i++) {
+            minArgs.get(i).setValue(i * 10);
+            maxArgs.get(i).setValue(i * 10);
+        }
+        assertEquals(new Integer(0), min.getValue());
+        assertEquals(new Integer(190), max.getValue());
+        assertEquals(1, listener.getCounter());
+
+        minArgs.get(0).dispose();
+        maxArgs.get(19).dispose();
+        assertEquals(new Integer(10), min.getValue());
+        assertEquals(new Integer(180), max.getValue());
+        assertEquals(2, listener.getCounter());
+        assertEquals(19, min.getArgumentCount());
+
+        minArgs.get(5).setValue(60);
+        assertEquals(2, listener.getCounter());
+    }
+
+    @Test
+    public void testSlotReuse() throws Exception {
+        SegmentTreeAggregateValue<String> first = Values.firstValidValue();
+        HasValue<String> a = first.newArgument();
+        HasValue<String> b = first.newArgument();
+        HasValue<String> c = first.newArgument();
+        b.setValue("b");
+        c.setValue("c");
+        assertEquals("b", first.getValue());
+
+        a.dispose();
+        HasValue<String> d = first.newArgument();
+        d.setValue("d");
+        assertEquals("d", first.getValue());
+
+        List<String> values = new ArrayList<>();
+        first.forEach(values::add);
+        assertEquals(Arrays.asList("d", "b", "c"), values);
+
+        a.setValue("a");
+        assertEquals("d", first.getValue());
+    }
+
+    @Test
+    public void testRandomAgainstScan() throws Exception {
+        AssociativeAggregator<Integer> aggregator = ValueUtil.maxAggregator();
+        SegmentTreeAggregateValue<Integer> max = new SegmentTreeAggregateValue<>(aggregator, 0);
+        List<HasValue<Integer>> args = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 2000; i++) {
+            int op = random.nextInt(4);
+            if ((op == 0) || args.isEmpty()) {
+                args.add(max.newArgument());
+            } else if (op == 1) {
+                args.remove(random.nextInt(args.size())).dispose();
+            } else {
+                args.get(random.nextInt(args.size())).setValue(random.nextInt(1000));
+            }
+
+            assertEquals(aggregator.aggregate(max), max.getValue());
+        }
+    }
+
+    @Test
+    public void testFlow() throws Exception {
+        HasValue<Double> a = Values.newHasValue(3.0);
+        HasValue<Double> b = Values.newHasValue(5.0);
+        HasValue<Double> res = Values.newHasValue();
+
+        SegmentTreeAggregateValue<Double> min = Values.minValue();
+        a.flow().force().to(min);
+        b.flow().force().to(min);
+        min.flow().force().to(res);
+        assertEquals(new Double(3.0), res.getValue());
+
+        a.setValue(7.0);
+        assertEquals(new Double(5.0), res.getValue());
+    }
+}
@@ -2,7 +2,7 @@ package com.github.linfro.core.value;
 
 /**
  * @author Dmitry Ermakov
- * @version 2014-01-06
+ * @version 2026-10-18
  * @since 1.0.0
  */
 public class TestGetValue<T> extends AbstractGetValue<T> {
@@ -32,4 +32,9 @@ public class TestGetValue<T> extends AbstractGetValue<T> {
         this.value = value;
         fireValueChanged();
     }
+
+    @Override
+    public boolean hasListeners() {
+        return super.hasListeners();
+    }
 }
@@ -0,0 +1,81 @@
+package com.github.linfro.core.value;
+
+import com.github.linfro.core.HasValue;
+import com.github.linfro.core.Values;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Dmitry Ermakov
+ * @version 2026-10-18
+ * @since 1.0.0
+ */
+public class ThreadContextTest {
+    @Test
+    public void testIdsUnique() throws Exception {
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    ThreadContext context = ThreadContext.get();
+                    long[] ids = new long[3000];
+                    for (int j = 0; j < ids.length; j++) {
+                        ids[j] = context.nextId();
+                    }
+                    return ids;
+                }));
+            }
+
+            Set<Long> all = new HashSet<>();
+            for (Future<long[]> future : futures) {
+                for (long id : future.get(10, TimeUnit.SECONDS)) {
+                    assertTrue(id != 0);
+                    assertTrue(all.add(id));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBatchOfOtherThread() throws Exception {
+        HasValue<Integer> a = Values.newHasValue(1);
+        List<Integer> log = new ArrayList<>();
+        a.flow().to(log::add);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch checked = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> batch = executor.submit(() -> ValueUtil.batch(() -> {
+                started.countDown();
+                try {
+                    checked.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+
+            // Batch of other thread does not postpone changes of this thread
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            a.setValue(2);
+            assertEquals(Arrays.asList(2), log);
+
+            checked.countDown();
+            batch.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}